@@ -0,0 +1,80 @@
+package org.uade.progra3.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uade.progra3.grafos.DeltaStepping;
+import org.uade.progra3.grafos.DijkstraDial;
+import org.uade.progra3.grafos.Djikstra;
+import org.uade.progra3.grafos.Grafo;
+import org.uade.progra3.grafos.GrafoCSR;
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dijkstra de un solo origen: arreglo sobre CSR, el mapa que consume RedSocialServicio, baldes de Dial y
+ * delta-stepping paralelo (de acá salen los umbrales de {@code CaminosMinimos}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DjikstraBenchmark {
+
+    @Param({"demo-red-social.json", "conexiones.JSON", "ba-10000", "ba-100000", "ws-100000"})
+    public String fixture;
+
+    private Grafo grafo;
+    private GrafoCSR csr;
+    private Usuario[] origenes;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        grafo = Fixtures.grafo(fixture);
+        csr = grafo.congelar();
+        // Se rota el origen para no medir siempre la misma región del grafo
+        origenes = new Usuario[Math.min(64, csr.getCantidadVertices())];
+        for (int i = 0; i < origenes.length; i++) {
+            origenes[i] = csr.getUsuario(i * (csr.getCantidadVertices() / origenes.length));
+        }
+    }
+
+    private Usuario proximoOrigen() {
+        siguiente = (siguiente + 1) % origenes.length;
+        return origenes[siguiente];
+    }
+
+    @Benchmark
+    public int[] distanciasCSR() {
+        return Djikstra.calcularDistancias(csr, csr.getIndice(proximoOrigen()));
+    }
+
+    @Benchmark
+    public int[] dial() {
+        return DijkstraDial.calcularDistancias(csr, csr.getIndice(proximoOrigen()));
+    }
+
+    @Benchmark
+    public int[] deltaStepping() {
+        return DeltaStepping.calcularDistancias(csr, csr.getIndice(proximoOrigen()));
+    }
+
+    @Benchmark
+    public Map<Usuario, Integer> caminosMinimosMapa() {
+        return Djikstra.calcularCaminosMinimos(grafo, proximoOrigen());
+    }
+}
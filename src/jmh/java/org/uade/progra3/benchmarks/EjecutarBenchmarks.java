@@ -0,0 +1,23 @@
+package org.uade.progra3.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de benchmarks.jar: igual que org.openjdk.jmh.Main pero con el profiler de GC
+ * siempre activo, para ver la tasa de asignación (gc.alloc.rate.norm) junto al tiempo.
+ */
+public class EjecutarBenchmarks {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions lineaDeComandos = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(lineaDeComandos)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
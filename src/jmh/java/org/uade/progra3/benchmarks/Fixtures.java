@@ -0,0 +1,58 @@
+package org.uade.progra3.benchmarks;
+
+import org.uade.progra3.grafos.Grafo;
+import org.uade.progra3.grafos.GrafoCSR;
+import org.uade.progra3.modelo.Publicacion;
+import org.uade.progra3.utils.DataLoader;
+import org.uade.progra3.utils.GeneradorRedSocial;
+
+import java.util.List;
+
+/**
+ * Datos de entrada de los benchmarks. Un nombre de recurso (demo-red-social.json, conexiones.JSON)
+ * se carga con DataLoader; "ba-N" y "ws-N" son redes sintéticas de N usuarios de GeneradorRedSocial
+ * (Barabási–Albert con 5 amistades por usuario, Watts–Strogatz con 5 vecinos por lado y 10% de reconexión),
+ * siempre con la misma semilla para comparar corridas. ba-100000 son 10^6 conexiones, ba-1000000 son 10^7.
+ */
+final class Fixtures {
+
+    private static final long SEMILLA = 20240601L;
+
+    private Fixtures() {
+    }
+
+    static Grafo grafo(String fixture) {
+        if (fixture.startsWith("ba-") || fixture.startsWith("ws-")) {
+            return redGenerada(fixture).aGrafo();
+        }
+        Grafo grafo = new Grafo();
+        new DataLoader(grafo).cargarDesdeRecurso(fixture);
+        return grafo;
+    }
+
+    /** Igual que {@link #grafo(String)} pero directo a CSR: para las redes sintéticas no crea objetos por arista. */
+    static GrafoCSR csr(String fixture) {
+        if (fixture.startsWith("ba-") || fixture.startsWith("ws-")) {
+            return redGenerada(fixture).aGrafoCSR();
+        }
+        return grafo(fixture).congelar();
+    }
+
+    private static GeneradorRedSocial.RedGenerada redGenerada(String fixture) {
+        int cantidadUsuarios = Integer.parseInt(fixture.substring(3));
+        GeneradorRedSocial generador = new GeneradorRedSocial(SEMILLA);
+        return fixture.startsWith("ba-")
+                ? generador.barabasiAlbert(cantidadUsuarios, 5)
+                : generador.wattsStrogatz(cantidadUsuarios, 5, 0.1);
+    }
+
+    /** Publicaciones candidatas: las del demo si cantidad es 10, si no sintéticas con interacciones de cola pesada. */
+    static List<Publicacion> publicaciones(int cantidad) {
+        if (cantidad == 10) {
+            DataLoader loader = new DataLoader(new Grafo());
+            loader.cargarDesdeRecurso("demo-red-social.json");
+            return loader.getPublicaciones();
+        }
+        return new GeneradorRedSocial(SEMILLA).publicaciones(cantidad);
+    }
+}
@@ -0,0 +1,64 @@
+package org.uade.progra3.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uade.progra3.modelo.CandidatoPublicaciones;
+import org.uade.progra3.modelo.Portada;
+import org.uade.progra3.negocio.PortadaDinamica;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Portada óptima (mochila) según cantidad de candidatas, capacidad y modo de tabla. */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PortadaBenchmark {
+
+    // 10 = publicaciones de demo-red-social.json
+    @Param({"10", "1000", "10000"})
+    public int candidatas;
+
+    @Param({"100", "1000"})
+    public int capacidad;
+
+    @Param({"COMPLETA", "COMPACTA"})
+    public PortadaDinamica.Modo modo;
+
+    private CandidatoPublicaciones feed;
+    private PortadaDinamica portadaDinamica;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        feed = new CandidatoPublicaciones(Fixtures.publicaciones(candidatas));
+        portadaDinamica = new PortadaDinamica(modo);
+    }
+
+    @Benchmark
+    public Portada portadaOptima() {
+        Portada portada = new Portada(capacidad);
+        portadaDinamica.obtenerPublicaciones(feed, portada);
+        return portada;
+    }
+
+    /** Tres diseños (celular, tablet, escritorio) con una sola pasada de la tabla. */
+    @Benchmark
+    public List<Portada> tresPortadas() {
+        List<Portada> portadas = List.of(new Portada(capacidad / 4), new Portada(capacidad / 2), new Portada(capacidad));
+        portadaDinamica.obtenerPublicaciones(feed, portadas);
+        return portadas;
+    }
+}
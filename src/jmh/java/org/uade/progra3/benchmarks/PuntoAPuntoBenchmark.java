@@ -0,0 +1,101 @@
+package org.uade.progra3.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uade.progra3.grafos.DijkstraBidireccional;
+import org.uade.progra3.grafos.Djikstra;
+import org.uade.progra3.grafos.Grafo;
+import org.uade.progra3.grafos.GrafoCSR;
+import org.uade.progra3.grafos.IndiceLandmarks;
+import org.uade.progra3.grafos.JerarquiaContraccion;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distancia entre dos usuarios: Dijkstra completo (el mapa de calcularCaminosMinimos), Dijkstra bidireccional,
+ * A* con landmarks y jerarquía de contracción. Los preprocesos se hacen en el setup; el de la jerarquía
+ * se mide aparte en construirJerarquia y tarda decenas de segundos desde ws-10000, por eso las redes son chicas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PuntoAPuntoBenchmark {
+
+    @Param({"conexiones.JSON", "ba-3000", "ws-10000"})
+    public String fixture;
+
+    private Grafo grafo;
+    private GrafoCSR csr;
+    private IndiceLandmarks landmarks;
+    private JerarquiaContraccion jerarquia;
+    private int[] origenes;
+    private int[] destinos;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        grafo = Fixtures.grafo(fixture);
+        csr = grafo.congelar();
+        landmarks = IndiceLandmarks.construir(csr, 16);
+        jerarquia = JerarquiaContraccion.construir(csr);
+        // Pares al azar pero siempre los mismos
+        SplittableRandom random = new SplittableRandom(42);
+        origenes = new int[256];
+        destinos = new int[256];
+        for (int i = 0; i < origenes.length; i++) {
+            origenes[i] = random.nextInt(csr.getCantidadVertices());
+            destinos[i] = random.nextInt(csr.getCantidadVertices());
+        }
+    }
+
+    private int proximo() {
+        siguiente = (siguiente + 1) % origenes.length;
+        return siguiente;
+    }
+
+    @Benchmark
+    public Integer caminosMinimosMapa() {
+        int i = proximo();
+        return Djikstra.calcularCaminosMinimos(grafo, csr.getUsuario(origenes[i])).get(csr.getUsuario(destinos[i]));
+    }
+
+    @Benchmark
+    public int bidireccional() {
+        int i = proximo();
+        return DijkstraBidireccional.calcularCamino(csr, origenes[i], destinos[i]).getDistancia();
+    }
+
+    @Benchmark
+    public int landmarks() {
+        int i = proximo();
+        return landmarks.calcularCamino(origenes[i], destinos[i]).getDistancia();
+    }
+
+    @Benchmark
+    public int jerarquia() {
+        int i = proximo();
+        return jerarquia.calcularDistancia(origenes[i], destinos[i]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 3)
+    public JerarquiaContraccion construirJerarquia() {
+        return JerarquiaContraccion.construir(csr);
+    }
+}
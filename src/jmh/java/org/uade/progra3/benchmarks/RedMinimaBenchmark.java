@@ -0,0 +1,50 @@
+package org.uade.progra3.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uade.progra3.grafos.BoruvkaMST;
+import org.uade.progra3.grafos.Grafo;
+import org.uade.progra3.grafos.GrafoCSR;
+import org.uade.progra3.grafos.KruskalMST;
+
+import java.util.concurrent.TimeUnit;
+
+/** Construcción de la red mínima: Kruskal secuencial contra Borůvka paralelo, sobre la misma foto CSR. */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedMinimaBenchmark {
+
+    @Param({"demo-red-social.json", "conexiones.JSON", "ba-10000", "ba-100000", "ws-100000"})
+    public String fixture;
+
+    private GrafoCSR csr;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        csr = Fixtures.csr(fixture);
+    }
+
+    @Benchmark
+    public Grafo kruskal() {
+        return KruskalMST.arbolDeRecubrimientoMinimo(csr);
+    }
+
+    @Benchmark
+    public Grafo boruvka() {
+        return BoruvkaMST.arbolDeRecubrimientoMinimo(csr);
+    }
+}
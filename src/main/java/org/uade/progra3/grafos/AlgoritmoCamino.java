@@ -0,0 +1,14 @@
+package org.uade.progra3.grafos;
+
+/**
+ * Algoritmos para el camino mínimo entre dos usuarios. Todos devuelven la misma distancia; cambian el costo
+ * por consulta y el preproceso (ver PuntoAPuntoBenchmark).
+ */
+public enum AlgoritmoCamino {
+    /** Dijkstra desde los dos extremos. Sin preproceso; el más rápido medido en redes sociales sintéticas. */
+    BIDIRECCIONAL,
+    /** A* con cotas de landmarks. Preproceso de 2 Dijkstra por landmark; rinde en grafos con geometría (rutas). */
+    LANDMARKS,
+    /** Jerarquía de contracción. Preproceso de segundos a minutos; gana en grafos chicos o con jerarquía natural. */
+    JERARQUIA
+}
@@ -0,0 +1,11 @@
+package org.uade.progra3.grafos;
+
+/** Algoritmos disponibles para las distancias desde un origen. Todos devuelven las mismas distancias. */
+public enum AlgoritmoCaminosMinimos {
+    /** Dijkstra con montículo indexado. Secuencial; el que se usa si los pesos no sirven para Dial. */
+    MONTICULO,
+    /** Dijkstra con baldes de Dial: O(V + E + D) sin comparaciones. Conviene si el peso máximo es chico. */
+    DIAL,
+    /** Delta-stepping: baldes de distancia relajados en paralelo. Solo a pedido (ver {@link CaminosMinimos}). */
+    DELTA_STEPPING
+}
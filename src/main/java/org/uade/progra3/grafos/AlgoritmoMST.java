@@ -0,0 +1,9 @@
+package org.uade.progra3.grafos;
+
+/** Algoritmos disponibles para calcular la red mínima. Ambos devuelven el mismo peso total. */
+public enum AlgoritmoMST {
+    /** Ordena todas las aristas y las agrega con union-find. Secuencial. */
+    KRUSKAL,
+    /** Rondas de "arista más barata por componente", con la búsqueda en paralelo. Conviene en grafos grandes. */
+    BORUVKA
+}
@@ -0,0 +1,73 @@
+package org.uade.progra3.grafos;
+
+import org.uade.progra3.modelo.CaminoMinimo;
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado completo de un Dijkstra: distancias y árbol de caminos mínimos desde un origen.
+ * El árbol se guarda como dos arreglos por índice de vértice (predecesor y arista usada para llegar),
+ * así que reconstruir el camino a cualquier usuario no requiere otra búsqueda.
+ */
+public class ArbolCaminosMinimos {
+
+    private final GrafoCSR grafo;
+    private final int origen;
+    private final int[] distancia;
+    private final int[] predecesor;         // -1 en el origen y en los inalcanzables
+    private final int[] aristaPredecesora;
+
+    ArbolCaminosMinimos(GrafoCSR grafo, int origen, int[] distancia, int[] predecesor, int[] aristaPredecesora) {
+        this.grafo = grafo;
+        this.origen = origen;
+        this.distancia = distancia;
+        this.predecesor = predecesor;
+        this.aristaPredecesora = aristaPredecesora;
+    }
+
+    public Usuario getOrigen() {
+        return origen < 0 ? null : grafo.getUsuario(origen);
+    }
+
+    /** Distancias por índice de vértice (Integer.MAX_VALUE = inalcanzable). No se debe modificar. */
+    public int[] getDistancias() {
+        return distancia;
+    }
+
+    public int getDistancia(Usuario usuario) {
+        int v = grafo.getIndice(usuario);
+        return v < 0 ? Integer.MAX_VALUE : distancia[v];
+    }
+
+    /** Índice del vértice anterior a v en su camino mínimo, o -1 si v es el origen o es inalcanzable. */
+    public int getPredecesor(int v) {
+        return predecesor[v];
+    }
+
+    /** Índice (en la foto CSR) de la arista con la que se llega a v, o -1 igual que {@link #getPredecesor}. */
+    public int getAristaPredecesora(int v) {
+        return predecesor[v] < 0 ? -1 : aristaPredecesora[v];
+    }
+
+    /** Camino desde el origen hasta el usuario, con los usuarios y conexiones intermedios. */
+    public CaminoMinimo caminoHasta(Usuario destino) {
+        int v = grafo.getIndice(destino);
+        if (v < 0 || distancia[v] == Integer.MAX_VALUE) {
+            return CaminoMinimo.inexistente();
+        }
+        List<Usuario> usuarios = new ArrayList<>();
+        List<Conexion> conexiones = new ArrayList<>();
+        usuarios.add(grafo.getUsuario(v));
+        for (int actual = v; predecesor[actual] >= 0; actual = predecesor[actual]) {
+            conexiones.add(grafo.getConexion(predecesor[actual], aristaPredecesora[actual]));
+            usuarios.add(grafo.getUsuario(predecesor[actual]));
+        }
+        Collections.reverse(usuarios);
+        Collections.reverse(conexiones);
+        return new CaminoMinimo(distancia[v], usuarios, conexiones);
+    }
+}
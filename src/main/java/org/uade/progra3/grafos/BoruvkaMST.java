@@ -0,0 +1,123 @@
+package org.uade.progra3.grafos;
+
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Red mínima con el algoritmo de Borůvka, alternativa paralela a {@link KruskalMST}.
+ * En cada ronda cada componente elige su arista más barata hacia otra componente y se unen todas a la vez;
+ * como la cantidad de componentes al menos se divide por dos, alcanzan O(log V) rondas.
+ * La búsqueda de la arista más barata recorre la lista de aristas en paralelo sobre un ForkJoinPool.
+ * Igual que Kruskal, si el grafo no es conexo devuelve un bosque.
+ */
+public class BoruvkaMST {
+
+    // Por debajo de esta cantidad de aristas una tarea recorre su rango sin dividirse
+    private static final int UMBRAL_SECUENCIAL = 1 << 13;
+    private static final long SIN_ARISTA = Long.MAX_VALUE;
+
+    public static Grafo arbolDeRecubrimientoMinimo(Grafo grafo) {
+        return arbolDeRecubrimientoMinimo(grafo.congelar(), grafo.getUsuarios(), ForkJoinPool.commonPool());
+    }
+
+    public static Grafo arbolDeRecubrimientoMinimo(GrafoCSR grafo) {
+        return arbolDeRecubrimientoMinimo(grafo, grafo.getUsuarios(), ForkJoinPool.commonPool());
+    }
+
+    public static Grafo arbolDeRecubrimientoMinimo(GrafoCSR grafo, ForkJoinPool pool) {
+        return arbolDeRecubrimientoMinimo(grafo, grafo.getUsuarios(), pool);
+    }
+
+    private static Grafo arbolDeRecubrimientoMinimo(GrafoCSR grafo, Collection<Usuario> usuarios, ForkJoinPool pool) {
+        Grafo resultado = new Grafo(grafo.esDirigido());
+        for (Usuario v : usuarios) {
+            resultado.agregarUsuario(v);
+        }
+
+        int cantidadVertices = grafo.getCantidadVertices();
+        int[] origenes = grafo.origenesDeAristas();
+        ConjuntosDisjuntos componentes = new ConjuntosDisjuntos(cantidadVertices);
+        int[] componenteDe = new int[cantidadVertices];
+        // Por componente (su representante): arista más barata empaquetada como (peso << 32 | índice).
+        // El índice desempata aristas de igual peso, así todas las componentes usan el mismo orden total y no se forman ciclos.
+        AtomicLongArray masBarata = new AtomicLongArray(cantidadVertices);
+
+        boolean huboUniones = true;
+        while (huboUniones && componentes.getCantidadConjuntos() > 1) {
+            // Foto de las componentes para esta ronda: las tareas paralelas solo leen este arreglo
+            for (int v = 0; v < cantidadVertices; v++) {
+                componenteDe[v] = componentes.buscar(v);
+                masBarata.set(v, SIN_ARISTA);
+            }
+
+            pool.invoke(new BuscarMasBaratas(grafo, origenes, componenteDe, masBarata, 0, origenes.length));
+
+            // Unir cada componente con su arista elegida (secuencial: es O(V) y no recorre aristas)
+            huboUniones = false;
+            for (int v = 0; v < cantidadVertices; v++) {
+                long elegida = masBarata.get(v);
+                if (elegida == SIN_ARISTA) continue;
+                int arista = (int) elegida;
+                int origen = origenes[arista];
+                int destino = grafo.getDestino(arista);
+                // Dos componentes pueden elegir la misma arista: solo se agrega la primera vez
+                if (componentes.unir(origen, destino)) {
+                    resultado.agregarConexion(grafo.getUsuario(origen), grafo.getUsuario(destino), grafo.getPeso(arista));
+                    huboUniones = true;
+                }
+            }
+        }
+        return resultado;
+    }
+
+    /** Recorre un rango de aristas y ofrece cada arista entre componentes distintas a ambos extremos. */
+    private static class BuscarMasBaratas extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final GrafoCSR grafo;
+        private final int[] origenes;
+        private final int[] componenteDe;
+        private final AtomicLongArray masBarata;
+        private final int desde;
+        private final int hasta;
+
+        BuscarMasBaratas(GrafoCSR grafo, int[] origenes, int[] componenteDe, AtomicLongArray masBarata, int desde, int hasta) {
+            this.grafo = grafo;
+            this.origenes = origenes;
+            this.componenteDe = componenteDe;
+            this.masBarata = masBarata;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= UMBRAL_SECUENCIAL) {
+                for (int arista = desde; arista < hasta; arista++) {
+                    int componenteOrigen = componenteDe[origenes[arista]];
+                    int componenteDestino = componenteDe[grafo.getDestino(arista)];
+                    if (componenteOrigen == componenteDestino) continue;
+                    long candidata = ((long) grafo.getPeso(arista) << 32) | arista;
+                    ofrecer(componenteOrigen, candidata);
+                    ofrecer(componenteDestino, candidata);
+                }
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            invokeAll(new BuscarMasBaratas(grafo, origenes, componenteDe, masBarata, desde, medio),
+                    new BuscarMasBaratas(grafo, origenes, componenteDe, masBarata, medio, hasta));
+        }
+
+        // Mínimo atómico: reintenta mientras la candidata siga siendo mejor que la registrada
+        private void ofrecer(int componente, long candidata) {
+            long actual = masBarata.get(componente);
+            while (candidata < actual && !masBarata.compareAndSet(componente, actual, candidata)) {
+                actual = masBarata.get(componente);
+            }
+        }
+    }
+}
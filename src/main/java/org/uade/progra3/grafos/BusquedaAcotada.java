@@ -0,0 +1,85 @@
+package org.uade.progra3.grafos;
+
+/**
+ * Distancias mínimas solo dentro del entorno de un usuario: a lo sumo maxSaltos conexiones y/o maxDistancia de peso.
+ * Con límite de saltos es Bellman-Ford por frentes: la ronda r relaja solo los vértices que mejoraron en la
+ * ronda r - 1 (usando la distancia que tenían al terminarla), así después de r rondas cada distancia es la
+ * mejor entre los caminos de hasta r conexiones. Sin límite de saltos es Dijkstra que no encola nada más lejos
+ * que maxDistancia. En los dos casos se usa el espacio de trabajo reutilizable, así que el costo depende del
+ * tamaño del vecindario y no del grafo.
+ */
+public class BusquedaAcotada {
+
+    public static final int SIN_LIMITE = Integer.MAX_VALUE;
+
+    public static Vecindario buscar(GrafoCSR grafo, int origen, int maxSaltos, int maxDistancia) {
+        if (maxSaltos < 0 || maxDistancia < 0) {
+            throw new IllegalArgumentException("Los límites no pueden ser negativos");
+        }
+        if (origen < 0) {
+            return new Vecindario(grafo, new int[0], new int[0]);
+        }
+
+        EspacioTrabajoDijkstra espacio = EspaciosDeTrabajo.tomar(grafo.getCantidadVertices());
+        try {
+            if (maxSaltos == SIN_LIMITE) {
+                Djikstra.recorrer(grafo, origen, espacio, maxDistancia, null);
+            } else {
+                espacio.fijarDistancia(origen, 0);
+                porFrentes(grafo, origen, maxSaltos, maxDistancia, espacio);
+            }
+
+            int cantidad = espacio.getCantidadTocados();
+            int[] vertices = new int[cantidad];
+            int[] distancias = new int[cantidad];
+            for (int i = 0; i < cantidad; i++) {
+                vertices[i] = espacio.getTocado(i);
+                distancias[i] = espacio.distancia[vertices[i]];
+            }
+            return new Vecindario(grafo, vertices, distancias);
+        } finally {
+            EspaciosDeTrabajo.devolver(espacio);
+        }
+    }
+
+    private static void porFrentes(GrafoCSR grafo, int origen, int maxSaltos, int maxDistancia,
+                                   EspacioTrabajoDijkstra espacio) {
+        int[] distancia = espacio.distancia;
+        boolean[] enSiguiente = espacio.marcado;
+        // frente actual con la distancia que tenía cada vértice al cerrar la ronda anterior
+        ListaEnteros frente = new ListaEnteros();
+        ListaEnteros distanciasFrente = new ListaEnteros();
+        ListaEnteros siguiente = new ListaEnteros();
+        frente.agregar(origen);
+        distanciasFrente.agregar(0);
+
+        for (int ronda = 0; ronda < maxSaltos && frente.tamanio > 0; ronda++) {
+            for (int k = 0; k < frente.tamanio; k++) {
+                int actual = frente.datos[k];
+                int distanciaActual = distanciasFrente.datos[k];
+                for (int arista = grafo.inicioAdyacentes(actual); arista < grafo.finAdyacentes(actual); arista++) {
+                    int vecino = grafo.getDestino(arista);
+                    long nuevaDistancia = (long) distanciaActual + grafo.getPeso(arista);
+                    if (nuevaDistancia <= maxDistancia && nuevaDistancia < distancia[vecino]) {
+                        espacio.fijarDistancia(vecino, (int) nuevaDistancia);
+                        if (!enSiguiente[vecino]) {
+                            enSiguiente[vecino] = true;
+                            siguiente.agregar(vecino);
+                        }
+                    }
+                }
+            }
+
+            // el próximo frente son los que mejoraron; se congela su distancia para la ronda siguiente
+            frente.vaciar();
+            distanciasFrente.vaciar();
+            for (int k = 0; k < siguiente.tamanio; k++) {
+                int v = siguiente.datos[k];
+                enSiguiente[v] = false;
+                frente.agregar(v);
+                distanciasFrente.agregar(distancia[v]);
+            }
+            siguiente.vaciar();
+        }
+    }
+}
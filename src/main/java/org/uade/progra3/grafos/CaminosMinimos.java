@@ -0,0 +1,40 @@
+package org.uade.progra3.grafos;
+
+/**
+ * Punto de entrada para las distancias desde un origen que elige el algoritmo según el grafo.
+ * Si los pesos son enteros chicos y no negativos se usan los baldes de Dial, que no comparan claves
+ * y recorren a lo sumo pesoMaximo + 1 baldes vacíos por distancia; si no, Dijkstra con montículo.
+ * Delta-stepping no se elige solo: hace más trabajo total que el montículo (re-relaja vértices dentro de un
+ * balde y sincroniza los hilos en cada ronda) y la única medición que hay, en un núcleo con ba-100000
+ * (10^6 aristas), lo da ~1.6 veces más lento. Queda disponible pidiéndolo con
+ * {@link AlgoritmoCaminosMinimos#DELTA_STEPPING}; antes de sumarlo a la selección hay que calibrar con
+ * DjikstraBenchmark (distanciasCSR contra deltaStepping) en una máquina con varios núcleos.
+ */
+public class CaminosMinimos {
+
+    static final int UMBRAL_PESO_DIAL = 256;
+
+    public static AlgoritmoCaminosMinimos elegir(GrafoCSR grafo) {
+        if (grafo.getPesoMinimo() >= 0 && grafo.getPesoMaximo() <= UMBRAL_PESO_DIAL) {
+            return AlgoritmoCaminosMinimos.DIAL;
+        }
+        return AlgoritmoCaminosMinimos.MONTICULO;
+    }
+
+    /** Distancias desde el origen con el algoritmo que más conviene para este grafo. */
+    public static int[] calcularDistancias(GrafoCSR grafo, int origen) {
+        return calcularDistancias(grafo, origen, elegir(grafo));
+    }
+
+    public static int[] calcularDistancias(GrafoCSR grafo, int origen, AlgoritmoCaminosMinimos algoritmo) {
+        switch (algoritmo) {
+            case DIAL:
+                return DijkstraDial.calcularDistancias(grafo, origen);
+            case DELTA_STEPPING:
+                return DeltaStepping.calcularDistancias(grafo, origen);
+            case MONTICULO:
+            default:
+                return Djikstra.calcularDistancias(grafo, origen);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.uade.progra3.grafos;
+
+/**
+ * Union-Find sobre los enteros 0..n-1, con compresión de caminos y unión por rango.
+ * buscar y unir cuestan O(α(n)) amortizado (en la práctica, constante).
+ */
+public class ConjuntosDisjuntos {
+
+    private final int[] padre;
+    private final byte[] rango;   // cota de la altura del árbol; nunca pasa de log2(n) < 32
+    private int cantidadConjuntos;
+
+    public ConjuntosDisjuntos(int cantidadElementos) {
+        this.padre = new int[cantidadElementos];
+        this.rango = new byte[cantidadElementos];
+        for (int i = 0; i < cantidadElementos; i++) {
+            padre[i] = i;
+        }
+        this.cantidadConjuntos = cantidadElementos;
+    }
+
+    /** Representante del conjunto de x. Aplana el camino recorrido (cada nodo pasa a apuntar a su abuelo). */
+    public int buscar(int x) {
+        while (padre[x] != x) {
+            padre[x] = padre[padre[x]];
+            x = padre[x];
+        }
+        return x;
+    }
+
+    /** Une los conjuntos de x e y. Devuelve false si ya estaban juntos. */
+    public boolean unir(int x, int y) {
+        int raizX = buscar(x);
+        int raizY = buscar(y);
+        if (raizX == raizY) {
+            return false;
+        }
+        // el árbol más bajo cuelga del más alto
+        if (rango[raizX] < rango[raizY]) {
+            padre[raizX] = raizY;
+        } else if (rango[raizX] > rango[raizY]) {
+            padre[raizY] = raizX;
+        } else {
+            padre[raizY] = raizX;
+            rango[raizX]++;
+        }
+        cantidadConjuntos--;
+        return true;
+    }
+
+    public boolean conectados(int x, int y) {
+        return buscar(x) == buscar(y);
+    }
+
+    public int getCantidadConjuntos() {
+        return cantidadConjuntos;
+    }
+}
@@ -0,0 +1,13 @@
+package org.uade.progra3.grafos;
+
+/**
+ * Recibe el resultado de un Dijkstra de un lote (ver {@link DijkstraPorLotes}).
+ * El arreglo de distancias es un espacio de trabajo reutilizado: solo es válido durante la llamada,
+ * si se necesita después hay que copiarlo. Se llama desde varios hilos a la vez.
+ */
+@FunctionalInterface
+public interface ConsumidorDistancias {
+
+    /** origen y distancias (Integer.MAX_VALUE = inalcanzable) indexados como en la foto CSR. */
+    void aceptar(int origen, int[] distancias);
+}
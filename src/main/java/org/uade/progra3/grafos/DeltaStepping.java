@@ -0,0 +1,177 @@
+package org.uade.progra3.grafos;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Caminos mínimos desde un origen con delta-stepping (Meyer y Sanders), la variante paralela de Dijkstra.
+ * Los vértices pendientes se agrupan en baldes de ancho delta según su distancia. Se vacía el primer balde
+ * no vacío relajando en paralelo sus aristas livianas (peso &lt;= delta), que pueden volver a llenarlo,
+ * y después una sola vez sus aristas pesadas, que solo caen en baldes posteriores.
+ * Dentro de un balde no importa el orden, así que cada ronda reparte toda la frontera entre los hilos.
+ * Las distancias se actualizan con un mínimo atómico (compareAndSet) porque varias aristas pueden mejorar
+ * el mismo vértice a la vez. Devuelve lo mismo que {@link Djikstra#calcularDistancias(GrafoCSR, int)}.
+ */
+public class DeltaStepping {
+
+    // Por debajo de esta cantidad de vértices de frontera una tarea los relaja sin dividirse
+    private static final int UMBRAL_SECUENCIAL = 256;
+
+    public static int[] calcularDistancias(GrafoCSR grafo, int origen) {
+        return calcularDistancias(grafo, origen, deltaSugerido(grafo), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ancho de balde sugerido: peso máximo sobre grado medio (al menos 1). Con pesos chicos y grado alto
+     * los baldes son angostos y casi todo el trabajo útil queda en aristas livianas.
+     */
+    public static int deltaSugerido(GrafoCSR grafo) {
+        if (grafo.getCantidadAristas() == 0) {
+            return 1;
+        }
+        long delta = (long) grafo.getPesoMaximo() * grafo.getCantidadVertices() / grafo.getCantidadAristas();
+        return (int) Math.max(1, Math.min(delta, grafo.getPesoMaximo()));
+    }
+
+    public static int[] calcularDistancias(GrafoCSR grafo, int origen, int delta, ForkJoinPool pool) {
+        if (delta < 1) {
+            throw new IllegalArgumentException("delta debe ser al menos 1");
+        }
+        int cantidadVertices = grafo.getCantidadVertices();
+        int[] inicial = new int[cantidadVertices];
+        Arrays.fill(inicial, Integer.MAX_VALUE);
+        if (origen < 0) {
+            return inicial;
+        }
+
+        AtomicIntegerArray distancia = new AtomicIntegerArray(inicial);
+        List<ListaEnteros> baldes = new ArrayList<>();
+        // Marcas por ronda para no repetir un vértice dentro de la frontera ni dentro de los ya visitados del balde
+        int[] marcaFrontera = new int[cantidadVertices];
+        int[] marcaBalde = new int[cantidadVertices];
+        int ronda = 0;
+
+        distancia.set(origen, 0);
+        agregarABalde(baldes, 0, origen);
+
+        for (int i = 0; i < baldes.size(); i++) {
+            ListaEnteros visitados = new ListaEnteros();
+            while (baldes.get(i) != null && baldes.get(i).tamanio > 0) {
+                ListaEnteros balde = baldes.get(i);
+                baldes.set(i, null);
+                ronda++;
+
+                // Frontera: los del balde cuya distancia todavía corresponde a este balde, sin repetir
+                ListaEnteros frontera = new ListaEnteros();
+                for (int k = 0; k < balde.tamanio; k++) {
+                    int v = balde.datos[k];
+                    if (distancia.get(v) / delta == i && marcaFrontera[v] != ronda) {
+                        marcaFrontera[v] = ronda;
+                        frontera.agregar(v);
+                        if (marcaBalde[v] != i + 1) {
+                            marcaBalde[v] = i + 1;
+                            visitados.agregar(v);
+                        }
+                    }
+                }
+
+                ListaEnteros mejorados = pool.invoke(new Relajar(grafo, distancia, frontera, delta, true, 0, frontera.tamanio));
+                repartir(baldes, distancia, mejorados, delta);
+            }
+
+            ListaEnteros mejorados = pool.invoke(new Relajar(grafo, distancia, visitados, delta, false, 0, visitados.tamanio));
+            repartir(baldes, distancia, mejorados, delta);
+        }
+
+        int[] resultado = new int[cantidadVertices];
+        for (int v = 0; v < cantidadVertices; v++) {
+            resultado[v] = distancia.get(v);
+        }
+        return resultado;
+    }
+
+    // Cada vértice mejorado va al balde de su distancia actual (las entradas viejas se descartan al vaciar)
+    private static void repartir(List<ListaEnteros> baldes, AtomicIntegerArray distancia, ListaEnteros mejorados, int delta) {
+        for (int k = 0; k < mejorados.tamanio; k++) {
+            int v = mejorados.datos[k];
+            agregarABalde(baldes, distancia.get(v) / delta, v);
+        }
+    }
+
+    private static void agregarABalde(List<ListaEnteros> baldes, int indice, int v) {
+        while (baldes.size() <= indice) {
+            baldes.add(null);
+        }
+        if (baldes.get(indice) == null) {
+            baldes.set(indice, new ListaEnteros());
+        }
+        baldes.get(indice).agregar(v);
+    }
+
+    /** Relaja las aristas livianas o las pesadas de un rango de la frontera; devuelve los vértices que mejoraron. */
+    private static class Relajar extends RecursiveTask<ListaEnteros> {
+        private static final long serialVersionUID = 1L;
+
+        private final GrafoCSR grafo;
+        private final AtomicIntegerArray distancia;
+        private final ListaEnteros frontera;
+        private final int delta;
+        private final boolean livianas;
+        private final int desde;
+        private final int hasta;
+
+        Relajar(GrafoCSR grafo, AtomicIntegerArray distancia, ListaEnteros frontera, int delta, boolean livianas,
+                int desde, int hasta) {
+            this.grafo = grafo;
+            this.distancia = distancia;
+            this.frontera = frontera;
+            this.delta = delta;
+            this.livianas = livianas;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected ListaEnteros compute() {
+            if (hasta - desde <= UMBRAL_SECUENCIAL) {
+                ListaEnteros mejorados = new ListaEnteros();
+                for (int k = desde; k < hasta; k++) {
+                    int actual = frontera.datos[k];
+                    int distanciaActual = distancia.get(actual);
+                    for (int arista = grafo.inicioAdyacentes(actual); arista < grafo.finAdyacentes(actual); arista++) {
+                        int peso = grafo.getPeso(arista);
+                        if ((peso <= delta) != livianas) continue;
+                        int vecino = grafo.getDestino(arista);
+                        if (bajar(vecino, distanciaActual + peso)) {
+                            mejorados.agregar(vecino);
+                        }
+                    }
+                }
+                return mejorados;
+            }
+            int medio = (desde + hasta) >>> 1;
+            Relajar izquierda = new Relajar(grafo, distancia, frontera, delta, livianas, desde, medio);
+            Relajar derecha = new Relajar(grafo, distancia, frontera, delta, livianas, medio, hasta);
+            izquierda.fork();
+            ListaEnteros mejorados = derecha.compute();
+            mejorados.agregarTodos(izquierda.join());
+            return mejorados;
+        }
+
+        // Mínimo atómico: reintenta mientras la nueva distancia siga siendo mejor que la registrada
+        private boolean bajar(int vertice, int nuevaDistancia) {
+            int actual = distancia.get(vertice);
+            while (nuevaDistancia < actual) {
+                if (distancia.compareAndSet(vertice, actual, nuevaDistancia)) {
+                    return true;
+                }
+                actual = distancia.get(vertice);
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.uade.progra3.grafos;
+
+import org.uade.progra3.modelo.CaminoMinimo;
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Camino mínimo entre dos usuarios con dos búsquedas de Dijkstra a la vez: una hacia adelante desde el origen
+ * y otra hacia atrás desde el destino (sobre las aristas entrantes de la foto CSR).
+ * Cada paso avanza el lado con menor distancia pendiente y se corta cuando la suma de los dos mínimos
+ * ya no puede mejorar el mejor encuentro, así que en redes grandes se visitan dos "bolas" chicas
+ * en lugar de todo lo alcanzable desde el origen.
+ */
+public class DijkstraBidireccional {
+
+    public static CaminoMinimo calcularCamino(Grafo grafo, Usuario origen, Usuario destino) {
+        GrafoCSR csr = grafo.congelar();
+        return calcularCamino(csr, csr.getIndice(origen), csr.getIndice(destino));
+    }
+
+    public static CaminoMinimo calcularCamino(GrafoCSR grafo, int origen, int destino) {
+        if (origen < 0 || destino < 0) {
+            return CaminoMinimo.inexistente();
+        }
+        if (origen == destino) {
+            return new CaminoMinimo(0, List.of(grafo.getUsuario(origen)), List.of());
+        }
+
+        EspacioTrabajoDijkstra adelante = EspaciosDeTrabajo.tomar(grafo.getCantidadVertices());
+        EspacioTrabajoDijkstra atras = EspaciosDeTrabajo.tomar(grafo.getCantidadVertices());
+        try {
+            adelante.fijarDistancia(origen, 0);
+            adelante.predecesor[origen] = -1;
+            adelante.pendientes.insertarODisminuir(origen, 0);
+            atras.fijarDistancia(destino, 0);
+            atras.predecesor[destino] = -1;
+            atras.pendientes.insertarODisminuir(destino, 0);
+
+            long mejor = Long.MAX_VALUE;
+            int encuentro = -1;
+
+            while (!adelante.pendientes.estaVacio() && !atras.pendientes.estaVacio()) {
+                int minimoAdelante = adelante.pendientes.getClave(adelante.pendientes.verMinimo());
+                int minimoAtras = atras.pendientes.getClave(atras.pendientes.verMinimo());
+                if ((long) minimoAdelante + minimoAtras >= mejor) {
+                    break; // ningún camino que pase por vértices pendientes puede ser más corto
+                }
+
+                if (minimoAdelante <= minimoAtras) {
+                    int actual = adelante.pendientes.extraerMinimo();
+                    adelante.visitar(actual);
+                    int distanciaActual = adelante.distancia[actual];
+                    for (int arista = grafo.inicioAdyacentes(actual); arista < grafo.finAdyacentes(actual); arista++) {
+                        int vecino = grafo.getDestino(arista);
+                        int nuevaDistancia = distanciaActual + grafo.getPeso(arista);
+                        if (!adelante.visitado(vecino) && nuevaDistancia < adelante.distancia[vecino]) {
+                            adelante.fijarDistancia(vecino, nuevaDistancia);
+                            adelante.predecesor[vecino] = actual;
+                            adelante.aristaPredecesora[vecino] = arista;
+                            adelante.pendientes.insertarODisminuir(vecino, nuevaDistancia);
+                        }
+                        if (atras.distancia[vecino] != Integer.MAX_VALUE
+                                && (long) adelante.distancia[vecino] + atras.distancia[vecino] < mejor) {
+                            mejor = (long) adelante.distancia[vecino] + atras.distancia[vecino];
+                            encuentro = vecino;
+                        }
+                    }
+                } else {
+                    int actual = atras.pendientes.extraerMinimo();
+                    atras.visitar(actual);
+                    int distanciaActual = atras.distancia[actual];
+                    for (int posicion = grafo.inicioEntrantes(actual); posicion < grafo.finEntrantes(actual); posicion++) {
+                        int vecino = grafo.getOrigenEntrante(posicion);
+                        int arista = grafo.getAristaEntrante(posicion);
+                        int nuevaDistancia = distanciaActual + grafo.getPeso(arista);
+                        if (!atras.visitado(vecino) && nuevaDistancia < atras.distancia[vecino]) {
+                            atras.fijarDistancia(vecino, nuevaDistancia);
+                            atras.predecesor[vecino] = actual; // en la búsqueda hacia atrás es el siguiente del camino
+                            atras.aristaPredecesora[vecino] = arista;
+                            atras.pendientes.insertarODisminuir(vecino, nuevaDistancia);
+                        }
+                        if (adelante.distancia[vecino] != Integer.MAX_VALUE
+                                && (long) adelante.distancia[vecino] + atras.distancia[vecino] < mejor) {
+                            mejor = (long) adelante.distancia[vecino] + atras.distancia[vecino];
+                            encuentro = vecino;
+                        }
+                    }
+                }
+            }
+
+            if (encuentro < 0) {
+                return CaminoMinimo.inexistente();
+            }
+            return armarCamino(grafo, adelante, atras, encuentro, (int) mejor);
+        } finally {
+            EspaciosDeTrabajo.devolver(adelante);
+            EspaciosDeTrabajo.devolver(atras);
+        }
+    }
+
+    // origen ... encuentro con los predecesores de adelante, encuentro ... destino con los "siguientes" de atrás
+    private static CaminoMinimo armarCamino(GrafoCSR grafo, EspacioTrabajoDijkstra adelante,
+                                            EspacioTrabajoDijkstra atras, int encuentro, int distancia) {
+        List<Usuario> usuarios = new ArrayList<>();
+        List<Conexion> conexiones = new ArrayList<>();
+        int v = encuentro;
+        usuarios.add(grafo.getUsuario(v));
+        while (adelante.predecesor[v] >= 0) {
+            conexiones.add(grafo.getConexion(adelante.predecesor[v], adelante.aristaPredecesora[v]));
+            v = adelante.predecesor[v];
+            usuarios.add(grafo.getUsuario(v));
+        }
+        Collections.reverse(usuarios);
+        Collections.reverse(conexiones);
+        for (v = encuentro; atras.predecesor[v] >= 0; v = atras.predecesor[v]) {
+            conexiones.add(grafo.getConexion(v, atras.aristaPredecesora[v]));
+            usuarios.add(grafo.getUsuario(atras.predecesor[v]));
+        }
+        return new CaminoMinimo(distancia, usuarios, conexiones);
+    }
+}
@@ -0,0 +1,88 @@
+package org.uade.progra3.grafos;
+
+import java.util.Arrays;
+
+/**
+ * Dijkstra con la cola de baldes de Dial, para pesos enteros chicos (en la red social van de 1 a 6).
+ * Hay un balde por distancia posible, pero como todo vértice pendiente está a lo sumo pesoMaximo más lejos
+ * que el que se está visitando, alcanzan pesoMaximo + 1 baldes usados en forma circular.
+ * Cada balde es una lista doblemente enlazada sobre arreglos de int (siguiente/anterior por vértice),
+ * así que insertar, mover un vértice al mejorar su distancia y sacar el próximo son O(1), sin comparaciones.
+ * Total: O(V + E + D), con D la mayor distancia alcanzada (a lo sumo V * pesoMaximo).
+ * Devuelve lo mismo que {@link Djikstra#calcularDistancias(GrafoCSR, int)}. No admite pesos negativos
+ * (la distancia saldría de los baldes): con alguno tira IllegalArgumentException.
+ */
+public class DijkstraDial {
+
+    private static final int NINGUNO = -1;
+
+    public static int[] calcularDistancias(GrafoCSR grafo, int origen) {
+        int cantidadVertices = grafo.getCantidadVertices();
+        int[] distancia = new int[cantidadVertices];
+        Arrays.fill(distancia, Integer.MAX_VALUE);
+        if (origen < 0) {
+            return distancia;
+        }
+        if (grafo.getPesoMinimo() < 0) {
+            throw new IllegalArgumentException("Los baldes de Dial no admiten pesos negativos");
+        }
+
+        int cantidadBaldes = grafo.getPesoMaximo() + 1;
+        int[] primero = new int[cantidadBaldes];
+        Arrays.fill(primero, NINGUNO);
+        int[] siguiente = new int[cantidadVertices];
+        int[] anterior = new int[cantidadVertices];
+
+        distancia[origen] = 0;
+        insertar(primero, siguiente, anterior, 0, origen);
+        int pendientes = 1;
+        int distanciaActual = 0;
+
+        while (pendientes > 0) {
+            int balde = distanciaActual % cantidadBaldes;
+            // avanzar hasta la próxima distancia con vértices pendientes (como mucho pesoMaximo baldes vacíos)
+            while (primero[balde] == NINGUNO) {
+                distanciaActual++;
+                balde = distanciaActual % cantidadBaldes;
+            }
+            int actual = primero[balde];
+            quitar(primero, siguiente, anterior, balde, actual);
+            pendientes--;
+
+            for (int arista = grafo.inicioAdyacentes(actual); arista < grafo.finAdyacentes(actual); arista++) {
+                int vecino = grafo.getDestino(arista);
+                int nuevaDistancia = distanciaActual + grafo.getPeso(arista);
+                if (nuevaDistancia < distancia[vecino]) {
+                    if (distancia[vecino] == Integer.MAX_VALUE) {
+                        pendientes++;
+                    } else {
+                        quitar(primero, siguiente, anterior, distancia[vecino] % cantidadBaldes, vecino);
+                    }
+                    distancia[vecino] = nuevaDistancia;
+                    insertar(primero, siguiente, anterior, nuevaDistancia % cantidadBaldes, vecino);
+                }
+            }
+        }
+        return distancia;
+    }
+
+    private static void insertar(int[] primero, int[] siguiente, int[] anterior, int balde, int vertice) {
+        siguiente[vertice] = primero[balde];
+        anterior[vertice] = NINGUNO;
+        if (primero[balde] != NINGUNO) {
+            anterior[primero[balde]] = vertice;
+        }
+        primero[balde] = vertice;
+    }
+
+    private static void quitar(int[] primero, int[] siguiente, int[] anterior, int balde, int vertice) {
+        if (anterior[vertice] != NINGUNO) {
+            siguiente[anterior[vertice]] = siguiente[vertice];
+        } else {
+            primero[balde] = siguiente[vertice];
+        }
+        if (siguiente[vertice] != NINGUNO) {
+            anterior[siguiente[vertice]] = anterior[vertice];
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.uade.progra3.grafos;
+
+import org.uade.progra3.modelo.Conexion;
+
+/**
+ * Mantiene al día un resultado de Dijkstra cuando el grafo gana una conexión (o una conexión baja de peso)
+ * sin recalcularlo entero. Agregar u -> v con peso p solo puede acortar caminos, y solo los que ahora pasan por
+ * esa arista: si distancia[u] + p no mejora distancia[v] no cambia nada; si la mejora, se corre un Dijkstra que
+ * arranca en v y solo sigue por los vértices que mejoran. El costo es proporcional a la región afectada del árbol
+ * de caminos mínimos, no al grafo.
+ * <p>
+ * Recorre las listas de adyacencia del {@link Grafo} (que ya tienen la conexión nueva) y no la foto CSR,
+ * que habría que volver a armar en O(V + E) por cada conexión. Los índices densos no cambian al agregar una
+ * conexión entre usuarios que ya estaban, así que los arreglos siguen valiendo. En un grafo no dirigido la
+ * conexión agrega dos aristas y hay que reparar por cada una (la versión que recibe la Conexion lo hace sola).
+ */
+public class DijkstraIncremental {
+
+    /**
+     * Repara distancias (y predecesores, si no es null) después de que se agregó la conexión dada; en un grafo
+     * no dirigido, en los dos sentidos.
+     */
+    public static int reparar(Grafo grafo, int[] distancia, int[] predecesor, Conexion nueva) {
+        int origen = grafo.getIndice(nueva.getOrigen());
+        int destino = grafo.getIndice(nueva.getDestino());
+        int mejorados = reparar(grafo, distancia, predecesor, origen, destino, nueva.getPeso());
+        if (!grafo.esDirigido()) {
+            mejorados += reparar(grafo, distancia, predecesor, destino, origen, nueva.getPeso());
+        }
+        return mejorados;
+    }
+
+    /**
+     * Repara distancia (indexada por {@link Grafo#getIndice}) tras agregar origen -> destino con el peso dado,
+     * o bajar esa conexión a ese peso. predecesor puede ser null; si no, queda apuntando al vértice anterior
+     * en el nuevo camino mínimo de cada vértice que mejoró. Devuelve cuántos vértices mejoraron.
+     */
+    public static int reparar(Grafo grafo, int[] distancia, int[] predecesor, int origen, int destino, int peso) {
+        if (origen < 0 || destino < 0 || origen >= distancia.length || destino >= distancia.length) {
+            throw new IllegalArgumentException("La conexión debe unir vértices que ya estaban en el resultado");
+        }
+        if (distancia[origen] == Integer.MAX_VALUE || (long) distancia[origen] + peso >= distancia[destino]) {
+            return 0;
+        }
+
+        EspacioTrabajoDijkstra espacio = EspaciosDeTrabajo.tomar(grafo.getCantidadVertices());
+        MonticuloIndexado pendientes = espacio.pendientes;
+        int mejorados = 0;
+        try {
+            distancia[destino] = distancia[origen] + peso;
+            if (predecesor != null) predecesor[destino] = origen;
+            pendientes.insertarODisminuir(destino, distancia[destino]);
+            while (!pendientes.estaVacio()) {
+                int actual = pendientes.extraerMinimo();
+                espacio.visitar(actual);
+                mejorados++;
+                int distanciaActual = distancia[actual];
+                for (Conexion conexion : grafo.getAdyacentes(grafo.getUsuario(actual))) {
+                    int vecino = grafo.getIndice(conexion.getDestino());
+                    if (espacio.visitado(vecino)) continue;
+                    long nuevaDistancia = (long) distanciaActual + conexion.getPeso();
+                    if (nuevaDistancia < distancia[vecino]) {
+                        distancia[vecino] = (int) nuevaDistancia;
+                        if (predecesor != null) predecesor[vecino] = actual;
+                        pendientes.insertarODisminuir(vecino, (int) nuevaDistancia);
+                    }
+                }
+            }
+        } finally {
+            EspaciosDeTrabajo.devolver(espacio);
+        }
+        return mejorados;
+    }
+}
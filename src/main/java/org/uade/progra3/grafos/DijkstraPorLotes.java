@@ -0,0 +1,73 @@
+package org.uade.progra3.grafos;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Dijkstra desde muchos orígenes a la vez (por ejemplo, precalcular recomendaciones para todos los usuarios).
+ * Las búsquedas son independientes y comparten la misma foto CSR de solo lectura; se reparten en un ForkJoinPool
+ * y cada tarea toma un espacio de trabajo de {@link EspaciosDeTrabajo} (distancias y montículo) que reutiliza
+ * para todos sus orígenes, así que no se crea un arreglo por consulta. Cada resultado se entrega al consumidor
+ * apenas está listo, en lugar de juntar V mapas completos.
+ */
+public class DijkstraPorLotes {
+
+    // Orígenes que procesa una tarea sin dividirse (cada uno es un Dijkstra completo)
+    private static final int UMBRAL_SECUENCIAL = 4;
+
+    public static void calcular(GrafoCSR grafo, int[] origenes, ConsumidorDistancias consumidor) {
+        calcular(grafo, origenes, ForkJoinPool.commonPool(), consumidor);
+    }
+
+    public static void calcular(GrafoCSR grafo, int[] origenes, ForkJoinPool pool, ConsumidorDistancias consumidor) {
+        pool.invoke(new Lote(grafo, origenes, consumidor, 0, origenes.length));
+    }
+
+    /** Todos los vértices del grafo como orígenes. */
+    public static void calcularTodos(GrafoCSR grafo, ConsumidorDistancias consumidor) {
+        int[] origenes = new int[grafo.getCantidadVertices()];
+        for (int v = 0; v < origenes.length; v++) {
+            origenes[v] = v;
+        }
+        calcular(grafo, origenes, consumidor);
+    }
+
+    private static class Lote extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final GrafoCSR grafo;
+        private final int[] origenes;
+        private final ConsumidorDistancias consumidor;
+        private final int desde;
+        private final int hasta;
+
+        Lote(GrafoCSR grafo, int[] origenes, ConsumidorDistancias consumidor, int desde, int hasta) {
+            this.grafo = grafo;
+            this.origenes = origenes;
+            this.consumidor = consumidor;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= UMBRAL_SECUENCIAL) {
+                // el arreglo que ve el consumidor tiene exactamente un lugar por vértice (el espacio es de ese tamaño)
+                EspacioTrabajoDijkstra espacio = EspaciosDeTrabajo.tomar(grafo.getCantidadVertices());
+                try {
+                    for (int i = desde; i < hasta; i++) {
+                        Djikstra.recorrer(grafo, origenes[i], espacio, Djikstra.SIN_COTA, null);
+                        consumidor.aceptar(origenes[i], espacio.distancia);
+                        espacio.limpiar();
+                    }
+                } finally {
+                    EspaciosDeTrabajo.devolver(espacio);
+                }
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            invokeAll(new Lote(grafo, origenes, consumidor, desde, medio),
+                    new Lote(grafo, origenes, consumidor, medio, hasta));
+        }
+    }
+}
@@ -1,73 +1,211 @@
 package org.uade.progra3.grafos;
 
+import org.uade.progra3.modelo.CaminoMinimo;
 import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Recomendacion;
 import org.uade.progra3.modelo.Usuario;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.function.IntPredicate;
 
 public class Djikstra {
 
-    public static Map<Usuario, Integer> calcularCaminosMinimos(Grafo grafo, Usuario origen) {
+    /** Sin cota de distancia para {@link #recorrer}. */
+    static final int SIN_COTA = Integer.MAX_VALUE;
 
-        // distancia minima desde el usuario a cada posible amistad
-        Map<Usuario, Integer> distancia = new HashMap<>();
+    public static Map<Usuario, Integer> calcularCaminosMinimos(Grafo grafo, Usuario origen) {
+        int[] distancia = calcularDistancias(grafo, origen);
+        return aMapa(grafo, origen, distancia);
+    }
 
-        // usuarios ya visitados
-        Set<Usuario> visitados = new HashSet<>();
+    /**
+     * Dijkstra con montículo indexado: O((V + E) log V).
+     * Devuelve la distancia mínima a cada vértice, indexada por {@link Grafo#getIndice(Usuario)};
+     * Integer.MAX_VALUE marca a los inalcanzables. Trabaja sobre la foto CSR del grafo.
+     */
+    public static int[] calcularDistancias(Grafo grafo, Usuario origen) {
+        GrafoCSR csr = grafo.congelar();
+        return calcularDistancias(csr, csr.getIndice(origen));
+    }
 
-        // inicializacion
-        for (Usuario v : grafo.getUsuarios()) {
-            distancia.put(v, Integer.MAX_VALUE);
+    /** Igual que {@link #calcularDistancias(Grafo, Usuario)} pero sobre la foto CSR y con el origen como índice. */
+    public static int[] calcularDistancias(GrafoCSR grafo, int origen) {
+        int[] distancia = new int[grafo.getCantidadVertices()];
+        Arrays.fill(distancia, Integer.MAX_VALUE);
+        EspacioTrabajoDijkstra espacio = EspaciosDeTrabajo.tomar(grafo.getCantidadVertices());
+        try {
+            recorrer(grafo, origen, espacio, SIN_COTA, null);
+            for (int i = 0; i < espacio.getCantidadTocados(); i++) {
+                int v = espacio.getTocado(i);
+                distancia[v] = espacio.distancia[v];
+            }
+        } finally {
+            EspaciosDeTrabajo.devolver(espacio);
         }
-        distancia.put(origen, 0);
+        return distancia;
+    }
 
-        // mientras haya usuarios sin visitar
-        while (visitados.size() < grafo.getUsuarios().size()) {
+    /**
+     * Distancia de cada vértice HACIA el destino (Dijkstra sobre las aristas entrantes de la foto CSR).
+     * En un grafo dirigido no es lo mismo que las distancias desde el destino.
+     */
+    public static int[] calcularDistanciasHacia(GrafoCSR grafo, int destino) {
+        int[] distancia = new int[grafo.getCantidadVertices()];
+        Arrays.fill(distancia, Integer.MAX_VALUE);
+        if (destino < 0) {
+            return distancia;
+        }
+        MonticuloIndexado pendientes = new MonticuloIndexado(grafo.getCantidadVertices());
+        boolean[] visitado = new boolean[grafo.getCantidadVertices()];
+        distancia[destino] = 0;
+        pendientes.insertarODisminuir(destino, 0);
+        while (!pendientes.estaVacio()) {
+            int actual = pendientes.extraerMinimo();
+            visitado[actual] = true;
+            int distanciaActual = distancia[actual];
+            for (int posicion = grafo.inicioEntrantes(actual); posicion < grafo.finEntrantes(actual); posicion++) {
+                int vecino = grafo.getOrigenEntrante(posicion);
+                if (visitado[vecino]) continue;
+                int nuevaDistancia = distanciaActual + grafo.getPeso(grafo.getAristaEntrante(posicion));
+                if (nuevaDistancia < distancia[vecino]) {
+                    distancia[vecino] = nuevaDistancia;
+                    pendientes.insertarODisminuir(vecino, nuevaDistancia);
+                }
+            }
+        }
+        return distancia;
+    }
 
-            Usuario actual = obtenerUsuarioConMenorDistancia(distancia, visitados);
+    /**
+     * Mismo recorrido que {@link #calcularDistancias(Grafo, Usuario)} pero guardando además el árbol de caminos
+     * mínimos, para poder mostrar por quiénes pasa el camino a cada usuario.
+     */
+    public static ArbolCaminosMinimos calcularArbol(Grafo grafo, Usuario origen) {
+        GrafoCSR csr = grafo.congelar();
+        return calcularArbol(csr, csr.getIndice(origen));
+    }
 
-            if (actual == null) {
-                break; // no hay mas alcanzables
+    public static ArbolCaminosMinimos calcularArbol(GrafoCSR grafo, int origen) {
+        int[] distancia = new int[grafo.getCantidadVertices()];
+        int[] predecesor = new int[grafo.getCantidadVertices()];
+        int[] aristaPredecesora = new int[grafo.getCantidadVertices()];
+        Arrays.fill(distancia, Integer.MAX_VALUE);
+        Arrays.fill(predecesor, -1);
+        EspacioTrabajoDijkstra espacio = EspaciosDeTrabajo.tomar(grafo.getCantidadVertices());
+        try {
+            recorrer(grafo, origen, espacio, SIN_COTA, null);
+            for (int i = 0; i < espacio.getCantidadTocados(); i++) {
+                int v = espacio.getTocado(i);
+                distancia[v] = espacio.distancia[v];
+                predecesor[v] = espacio.predecesor[v];
+                aristaPredecesora[v] = espacio.aristaPredecesora[v];
             }
+        } finally {
+            EspaciosDeTrabajo.devolver(espacio);
+        }
+        return new ArbolCaminosMinimos(grafo, origen, distancia, predecesor, aristaPredecesora);
+    }
 
-            visitados.add(actual);
-
-            // recorrer conexiones adyacentes
-            for (Conexion conexion : grafo.getAdyacentes(actual)) {
-                Usuario vecino = conexion.getDestino();
+    /**
+     * El Dijkstra de todas las variantes, sobre un espacio de trabajo ya limpio: deja distancias, predecesores y
+     * aristas usadas en el espacio (el predecesor del origen es -1). No encola vértices a más de maxDistancia
+     * ({@link #SIN_COTA} = sin límite). Si visita no es null se llama con cada vértice al quedar visitado
+     * (su distancia ya es la mínima), y si devuelve false la búsqueda corta ahí.
+     * Quien llama es responsable de devolver el espacio al terminar de usarlo.
+     */
+    static void recorrer(GrafoCSR grafo, int origen, EspacioTrabajoDijkstra espacio, int maxDistancia, IntPredicate visita) {
+        if (origen < 0) {
+            return; // el origen no está en el grafo: nadie es alcanzable
+        }
+        int[] distancia = espacio.distancia;
+        MonticuloIndexado pendientes = espacio.pendientes;
+        espacio.fijarDistancia(origen, 0);
+        espacio.predecesor[origen] = -1;
+        pendientes.insertarODisminuir(origen, 0);
+
+        while (!pendientes.estaVacio()) {
+            // el de menor distancia queda visitado: su distancia ya no puede mejorar
+            int actual = pendientes.extraerMinimo();
+            espacio.visitar(actual);
+            if (visita != null && !visita.test(actual)) {
+                return;
+            }
+            int distanciaActual = distancia[actual];
 
-                if (!visitados.contains(vecino)) {
-                    int nuevaDistancia =
-                            distancia.get(actual) + conexion.getPeso();
+            for (int arista = grafo.inicioAdyacentes(actual); arista < grafo.finAdyacentes(actual); arista++) {
+                int vecino = grafo.getDestino(arista);
+                if (espacio.visitado(vecino)) {
+                    continue; // ya visitado: con pesos negativos volvería a entrar al montículo
+                }
+                long nuevaDistancia = (long) distanciaActual + grafo.getPeso(arista);
 
-                    if (nuevaDistancia < distancia.get(vecino)) {
-                        distancia.put(vecino, nuevaDistancia);
-                    }
+                if (nuevaDistancia <= maxDistancia && nuevaDistancia < distancia[vecino]) {
+                    espacio.fijarDistancia(vecino, (int) nuevaDistancia);
+                    espacio.predecesor[vecino] = actual;
+                    espacio.aristaPredecesora[vecino] = arista;
+                    pendientes.insertarODisminuir(vecino, (int) nuevaDistancia);
                 }
             }
         }
-
-        return distancia;
     }
 
-    // devuelve el usuario no visitado con menor distancia
-    private static Usuario obtenerUsuarioConMenorDistancia(
-            Map<Usuario, Integer> distancia,
-            Set<Usuario> visitados) {
-
-        Usuario minimo = null;
-        int menorDistancia = Integer.MAX_VALUE;
+    /**
+     * Los cantidad usuarios más cercanos al origen que todavía no son conexiones directas suyas,
+     * de menor a mayor distancia, cada uno con el camino por el que se llega (a quiénes hay que conocer).
+     * Dijkstra corta apenas quedan visitados esos cantidad usuarios,
+     * así que el costo depende del vecindario explorado y no del tamaño del grafo.
+     */
+    public static List<Recomendacion> recomendar(GrafoCSR grafo, int origen, int cantidad) {
+        List<Recomendacion> recomendaciones = new ArrayList<>(Math.max(0, Math.min(cantidad, 64)));
+        if (origen < 0 || cantidad <= 0) {
+            return recomendaciones;
+        }
 
-        for (Usuario v : distancia.keySet()) {
-            if (!visitados.contains(v) && distancia.get(v) < menorDistancia) {
-                menorDistancia = distancia.get(v);
-                minimo = v;
+        EspacioTrabajoDijkstra espacio = EspaciosDeTrabajo.tomar(grafo.getCantidadVertices());
+        try {
+            // el origen y sus conexiones directas no se recomiendan
+            espacio.marcar(origen);
+            for (int arista = grafo.inicioAdyacentes(origen); arista < grafo.finAdyacentes(origen); arista++) {
+                espacio.marcar(grafo.getDestino(arista));
             }
+            recorrer(grafo, origen, espacio, SIN_COTA, actual -> {
+                if (!espacio.marcado[actual]) {
+                    recomendaciones.add(new Recomendacion(camino(grafo, espacio, actual)));
+                }
+                return recomendaciones.size() < cantidad;
+            });
+        } finally {
+            EspaciosDeTrabajo.devolver(espacio);
+        }
+        return recomendaciones;
+    }
+
+    // Camino desde el origen de la búsqueda hasta v, siguiendo los predecesores del espacio de trabajo
+    static CaminoMinimo camino(GrafoCSR grafo, EspacioTrabajoDijkstra espacio, int v) {
+        List<Usuario> usuarios = new ArrayList<>();
+        List<Conexion> conexiones = new ArrayList<>();
+        usuarios.add(grafo.getUsuario(v));
+        for (int actual = v; espacio.predecesor[actual] >= 0; actual = espacio.predecesor[actual]) {
+            conexiones.add(grafo.getConexion(espacio.predecesor[actual], espacio.aristaPredecesora[actual]));
+            usuarios.add(grafo.getUsuario(espacio.predecesor[actual]));
         }
+        Collections.reverse(usuarios);
+        Collections.reverse(conexiones);
+        return new CaminoMinimo(espacio.distancia[v], usuarios, conexiones);
+    }
 
-        return minimo;
+    /** Adapta el arreglo de distancias a un mapa usuario -> distancia con una entrada por usuario del grafo. */
+    public static Map<Usuario, Integer> aMapa(Grafo grafo, Usuario origen, int[] distancia) {
+        Map<Usuario, Integer> resultado = new HashMap<>();
+        for (Usuario v : grafo.getUsuarios()) {
+            resultado.put(v, distancia[grafo.getIndice(v)]);
+        }
+        resultado.put(origen, 0);
+        return resultado;
     }
 }
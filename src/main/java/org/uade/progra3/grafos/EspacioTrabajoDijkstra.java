@@ -0,0 +1,92 @@
+package org.uade.progra3.grafos;
+
+import java.util.Arrays;
+
+/**
+ * Arreglos de trabajo reutilizables para búsquedas que cortan antes de recorrer todo el grafo.
+ * Las distancias se inicializan una sola vez; después de cada búsqueda solo se restauran
+ * los vértices tocados, así el costo de una consulta es el del vecindario explorado y no O(V).
+ * Los vértices visitados (sacados del montículo) se marcan con el sello de la búsqueda actual: cambiar de sello
+ * los desmarca a todos en O(1). Quien relaja no vuelve a tocar un visitado, así el montículo no lo recibe de
+ * nuevo aunque una arista negativa le ofrezca una distancia menor.
+ */
+final class EspacioTrabajoDijkstra {
+
+    final int[] distancia;
+    // Vértice anterior y arista usada para llegar; solo son válidos donde la distancia no es MAX_VALUE
+    final int[] predecesor;
+    final int[] aristaPredecesora;
+    final boolean[] marcado;
+    final MonticuloIndexado pendientes;
+    private final int[] visitadoEn;
+    private int sello = 1;
+    private final int[] tocados;
+    private int cantidadTocados;
+    private final int[] marcados;
+    private int cantidadMarcados;
+
+    EspacioTrabajoDijkstra(int capacidad) {
+        distancia = new int[capacidad];
+        Arrays.fill(distancia, Integer.MAX_VALUE);
+        predecesor = new int[capacidad];
+        aristaPredecesora = new int[capacidad];
+        marcado = new boolean[capacidad];
+        visitadoEn = new int[capacidad];
+        pendientes = new MonticuloIndexado(capacidad);
+        tocados = new int[capacidad];
+        marcados = new int[capacidad];
+    }
+
+    int getCapacidad() {
+        return distancia.length;
+    }
+
+    void fijarDistancia(int vertice, int valor) {
+        if (distancia[vertice] == Integer.MAX_VALUE) {
+            tocados[cantidadTocados++] = vertice;
+        }
+        distancia[vertice] = valor;
+    }
+
+    /** Cantidad de vértices con distancia asignada desde la última limpieza. */
+    int getCantidadTocados() {
+        return cantidadTocados;
+    }
+
+    int getTocado(int i) {
+        return tocados[i];
+    }
+
+    void visitar(int vertice) {
+        visitadoEn[vertice] = sello;
+    }
+
+    boolean visitado(int vertice) {
+        return visitadoEn[vertice] == sello;
+    }
+
+    void marcar(int vertice) {
+        if (!marcado[vertice]) {
+            marcado[vertice] = true;
+            marcados[cantidadMarcados++] = vertice;
+        }
+    }
+
+    /** Deja el espacio como recién creado, en tiempo proporcional a lo que tocó la última búsqueda. */
+    void limpiar() {
+        for (int i = 0; i < cantidadTocados; i++) {
+            distancia[tocados[i]] = Integer.MAX_VALUE;
+        }
+        cantidadTocados = 0;
+        for (int i = 0; i < cantidadMarcados; i++) {
+            marcado[marcados[i]] = false;
+        }
+        cantidadMarcados = 0;
+        pendientes.vaciar();
+        if (sello == Integer.MAX_VALUE) {
+            Arrays.fill(visitadoEn, 0);
+            sello = 0;
+        }
+        sello++;
+    }
+}
@@ -0,0 +1,52 @@
+package org.uade.progra3.grafos;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Reserva compartida de {@link EspacioTrabajoDijkstra} para todas las búsquedas (Dijkstra, bidireccional, A*,
+ * jerarquía, lotes). Quien busca toma un espacio, lo usa y lo devuelve limpio; hay tantos espacios como
+ * búsquedas simultáneas llegó a haber, no uno por hilo y por clase.
+ * Todos los espacios guardados son del tamaño del último grafo pedido: al pedir otro tamaño los anteriores
+ * se descartan a medida que salen o vuelven, así un grafo más grande no deja atrás los arreglos del anterior.
+ * {@link #liberar()} suelta todo (ej. al cambiar de red); la próxima búsqueda vuelve a reservar.
+ */
+public final class EspaciosDeTrabajo {
+
+    // El último tomado vuelve adelante: es el que más probablemente siga en caché
+    private static final ConcurrentLinkedDeque<EspacioTrabajoDijkstra> LIBRES = new ConcurrentLinkedDeque<>();
+    private static volatile int capacidadActual;
+
+    private EspaciosDeTrabajo() {
+    }
+
+    /** Un espacio limpio con exactamente cantidadVertices posiciones; hay que devolverlo con {@link #devolver}. */
+    static EspacioTrabajoDijkstra tomar(int cantidadVertices) {
+        capacidadActual = cantidadVertices;
+        EspacioTrabajoDijkstra espacio;
+        while ((espacio = LIBRES.pollFirst()) != null) {
+            if (espacio.getCapacidad() == cantidadVertices) {
+                return espacio;
+            }
+        }
+        return new EspacioTrabajoDijkstra(cantidadVertices);
+    }
+
+    /** Limpia el espacio y lo deja disponible, salvo que ya sea de otro tamaño que el grafo actual. */
+    static void devolver(EspacioTrabajoDijkstra espacio) {
+        espacio.limpiar();
+        if (espacio.getCapacidad() == capacidadActual) {
+            LIBRES.offerFirst(espacio);
+        }
+    }
+
+    /** Descarta los espacios guardados (los que están en uso se descartan al devolverse). */
+    public static void liberar() {
+        capacidadActual = -1;
+        LIBRES.clear();
+    }
+
+    /** Espacios guardados sin usar. */
+    static int getCantidadLibres() {
+        return LIBRES.size();
+    }
+}
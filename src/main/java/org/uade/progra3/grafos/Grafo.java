@@ -4,36 +4,196 @@ import org.uade.progra3.modelo.Conexion;
 import org.uade.progra3.modelo.Usuario;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * Red de usuarios con conexiones pesadas. Por defecto es dirigida: agregarConexion(a, b) solo permite ir de a a b.
+ * En modo no dirigido cada conexión se agrega también en sentido contrario (b -> a, mismo peso), así Dijkstra,
+ * las búsquedas bidireccionales y Kruskal ven la misma amistad; getConexiones la lista una sola vez.
+ * <p>
+ * Además de las listas de adyacencia mantiene las entrantes de cada usuario ("quién me tiene como conexión") y un
+ * índice hash por par de usuarios para existeConexion / getPesoConexion en O(1).
+ */
 public class Grafo {
+    private final boolean dirigido;
     private final Set<Usuario> usuarios;
     private final List<Conexion> conexiones;
     private final Map<Usuario, List<Conexion>> adyacencias;
+    private final Map<Usuario, List<Conexion>> entrantes;
+    // (índice origen << 32 | índice destino) -> primera conexión agregada entre ese par
+    private final Map<Long, Conexion> conexionPorPar;
+    // Índice denso: cada vértice recibe un entero 0..n-1 en orden de aparición (para algoritmos sobre arreglos)
+    private final List<Usuario> verticesPorIndice;
+    private final Map<Usuario, Integer> indices;
+    // Última foto CSR; se descarta cuando el grafo cambia
+    private GrafoCSR congelado;
+    // Cuenta las modificaciones: quien guarda resultados calculados sobre el grafo la usa para saber si siguen valiendo
+    private long version;
+    // Foto cargada con cargarFoto cuyas conexiones todavía no se pasaron a listas de adyacencia
+    private GrafoCSR pendienteDeExpandir;
 
     public Grafo() {
+        this(true);
+    }
+
+    public Grafo(boolean dirigido) {
+        this.dirigido = dirigido;
         usuarios = new HashSet<>();
         conexiones = new ArrayList<>();
         adyacencias = new HashMap<>();
+        entrantes = new HashMap<>();
+        conexionPorPar = new HashMap<>();
+        verticesPorIndice = new ArrayList<>();
+        indices = new HashMap<>();
+    }
+
+    public boolean esDirigido() {
+        return dirigido;
     }
 
     public void agregarUsuario(Usuario v) {
+        expandir();
         usuarios.add(v);
         adyacencias.putIfAbsent(v, new ArrayList<>());
+        entrantes.putIfAbsent(v, new ArrayList<>());
+        // Si ya era vértice (ej. extremo de una conexión) la foto y todo lo calculado sobre ella siguen valiendo
+        if (indexar(v)) {
+            congelado = null;
+            version++;
+        }
     }
 
     public void agregarConexion(Usuario origen, Usuario destino, int peso) {
+        expandir();
         Conexion conexion = new Conexion(origen, destino, peso);
         this.conexiones.add(conexion);
         
         adyacencias.putIfAbsent(origen, new ArrayList<>());
         adyacencias.putIfAbsent(destino, new ArrayList<>());
+        indexar(origen);
+        indexar(destino);
+
+        enlazar(conexion);
+        if (!dirigido && !origen.equals(destino)) {
+            enlazar(new Conexion(destino, origen, peso));
+        }
+        congelado = null;
+        version++;
+    }
+
+    // Agrega la conexión a la adyacencia de su origen, a las entrantes de su destino y al índice por par
+    private void enlazar(Conexion conexion) {
+        adyacencias.get(conexion.getOrigen()).add(conexion);
+        entrantes.computeIfAbsent(conexion.getDestino(), v -> new ArrayList<>()).add(conexion);
+        conexionPorPar.putIfAbsent(clave(indices.get(conexion.getOrigen()), indices.get(conexion.getDestino())), conexion);
+    }
+
+    private static long clave(int origen, int destino) {
+        return ((long) origen << 32) | destino;
+    }
+
+    /**
+     * Foto inmutable en formato CSR con los mismos índices densos que este grafo.
+     * Se arma una sola vez y se reutiliza mientras el grafo no cambie.
+     */
+    public GrafoCSR congelar() {
+        if (congelado == null) {
+            congelado = GrafoCSR.desde(this);
+        }
+        return congelado;
+    }
+
+    /**
+     * Carga una foto CSR (ej. leída de un snapshot binario) como contenido del grafo.
+     * Si el grafo está vacío no se crea ninguna Conexion: los algoritmos usan la foto directamente
+     * y las listas de adyacencia se arman recién cuando alguien las pide o modifica el grafo.
+     * Si ya tenía datos, las conexiones se agregan una por una como siempre.
+     * En un grafo no dirigido la foto tiene que traer las dos direcciones de cada amistad (como las deja
+     * {@link #congelar()}): se toma una conexión por par y la otra dirección es su reflejo.
+     * La foto tiene que ser del mismo modo que el grafo; si no, IllegalArgumentException.
+     */
+    public void cargarFoto(GrafoCSR foto, Collection<Usuario> usuariosDeLaFoto) {
+        if (foto.esDirigido() != dirigido) {
+            throw new IllegalArgumentException("La foto es " + (foto.esDirigido() ? "dirigida" : "no dirigida")
+                    + " y el grafo " + (dirigido ? "dirigido" : "no dirigido"));
+        }
+        if (!verticesPorIndice.isEmpty()) {
+            for (Usuario v : usuariosDeLaFoto) {
+                agregarUsuario(v);
+            }
+            for (int v = 0; v < foto.getCantidadVertices(); v++) {
+                for (int arista = foto.inicioAdyacentes(v); arista < foto.finAdyacentes(v); arista++) {
+                    if (dirigido || v <= foto.getDestino(arista)) {
+                        agregarConexion(foto.getUsuario(v), foto.getUsuario(foto.getDestino(arista)), foto.getPeso(arista));
+                    }
+                }
+            }
+            return;
+        }
+        for (int v = 0; v < foto.getCantidadVertices(); v++) {
+            indexar(foto.getUsuario(v));
+        }
+        usuarios.addAll(usuariosDeLaFoto);
+        congelado = foto;
+        pendienteDeExpandir = foto;
+        version++;
+    }
 
-        adyacencias.get(origen).add(conexion);
+    /** Número de modificaciones hechas al grafo. Si no cambió, lo calculado sobre el grafo sigue siendo válido. */
+    public long getVersion() {
+        return version;
+    }
+
+    // Pasa las conexiones de la foto cargada a objetos Conexion, listas de adyacencia e índices (una sola vez)
+    private void expandir() {
+        if (pendienteDeExpandir == null) return;
+        GrafoCSR foto = pendienteDeExpandir;
+        pendienteDeExpandir = null;
+        for (int v = 0; v < foto.getCantidadVertices(); v++) {
+            Usuario usuario = foto.getUsuario(v);
+            adyacencias.put(usuario, new ArrayList<>(foto.getGrado(v)));
+            entrantes.putIfAbsent(usuario, new ArrayList<>());
+        }
+        for (int v = 0; v < foto.getCantidadVertices(); v++) {
+            Usuario origen = foto.getUsuario(v);
+            for (int arista = foto.inicioAdyacentes(v); arista < foto.finAdyacentes(v); arista++) {
+                Conexion conexion = new Conexion(origen, foto.getUsuario(foto.getDestino(arista)), foto.getPeso(arista));
+                enlazar(conexion);
+                // no dirigido: la foto trae las dos direcciones y se lista una sola
+                if (dirigido || v <= foto.getDestino(arista)) {
+                    conexiones.add(conexion);
+                }
+            }
+        }
+    }
+
+    private boolean indexar(Usuario v) {
+        if (indices.containsKey(v)) {
+            return false;
+        }
+        indices.put(v, verticesPorIndice.size());
+        verticesPorIndice.add(v);
+        return true;
+    }
+
+    /** Cantidad de vértices indexados (usuarios agregados y extremos de conexiones). */
+    public int getCantidadVertices() {
+        return verticesPorIndice.size();
+    }
+
+    /** Índice denso del usuario, o -1 si no pertenece al grafo. */
+    public int getIndice(Usuario v) {
+        Integer indice = indices.get(v);
+        return indice == null ? -1 : indice;
+    }
+
+    public Usuario getUsuario(int indice) {
+        return verticesPorIndice.get(indice);
     }
 
     public Set<Usuario> getUsuarios() {
@@ -41,34 +201,37 @@ public class Grafo {
     }
 
     public List<Conexion> getConexiones() {
+        expandir();
         return conexiones;
     }
 
     public List<Conexion> getAdyacentes(Usuario v) {
+        expandir();
         return adyacencias.getOrDefault(v, new ArrayList<>());
     }
 
-    public boolean existeConexion(Usuario origen, Usuario destino) {
-        if (!adyacencias.containsKey(origen)) return false;
+    /** Conexiones que llegan al usuario (en un grafo no dirigido, las mismas amistades que sus adyacentes). */
+    public List<Conexion> getEntrantes(Usuario v) {
+        expandir();
+        return entrantes.getOrDefault(v, new ArrayList<>());
+    }
 
-        // Solo busco en la lista pequeña de vecinos de ESE origen
-        for (Conexion a : adyacencias.get(origen)) {
-            if (a.getDestino().equals(destino)) {
-                return true;
-            }
-        }
-        return false;
+    public boolean existeConexion(Usuario origen, Usuario destino) {
+        return buscarConexion(origen, destino) != null;
     }
 
+    /** Peso de la primera conexión agregada de origen a destino, o null si no hay. */
     public Integer getPesoConexion(Usuario origen, Usuario destino) {
-        if (!adyacencias.containsKey(origen)) return null;
+        Conexion conexion = buscarConexion(origen, destino);
+        return conexion == null ? null : conexion.getPeso();
+    }
 
-        for (Conexion a : adyacencias.get(origen)) {
-            if (a.getDestino().equals(destino)) {
-                return a.getPeso();
-            }
-        }
-        return null;
+    private Conexion buscarConexion(Usuario origen, Usuario destino) {
+        expandir();
+        Integer indiceOrigen = indices.get(origen);
+        Integer indiceDestino = indices.get(destino);
+        if (indiceOrigen == null || indiceDestino == null) return null;
+        return conexionPorPar.get(clave(indiceOrigen, indiceDestino));
     }
 
     @Override
@@ -77,7 +240,7 @@ public class Grafo {
         sb.append("Árbol de Recubrimiento Mínimo: \n\n");
 
         int pesoTotal = 0;
-        for (Conexion c : this.conexiones) {
+        for (Conexion c : getConexiones()) {
             sb.append(c.getOrigen().getNombre())
                     .append(" --(" ).append(c.getPeso()).append(")--> ")
                     .append(c.getDestino().getNombre())
@@ -0,0 +1,274 @@
+package org.uade.progra3.grafos;
+
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Foto inmutable de un {@link Grafo} en formato CSR (compressed sparse row).
+ * Los vértices son enteros densos 0..n-1 (los mismos índices que {@link Grafo#getIndice(Usuario)})
+ * y las aristas salientes del vértice v ocupan las posiciones inicio[v]..inicio[v+1]-1 de los
+ * arreglos destinos[] y pesos[]. Sin un objeto por arista: recorrer vecinos es leer memoria contigua.
+ * Guarda también si el grafo era dirigido; en uno no dirigido cada amistad está en las dos direcciones.
+ */
+public class GrafoCSR {
+
+    private final Usuario[] usuarios;          // índice -> usuario
+    private final Map<Usuario, Integer> indices;
+    private final int[] inicio;                // n + 1 posiciones
+    private final int[] destinos;
+    private final int[] pesos;
+    private final boolean dirigido;
+    // Se calculan la primera vez que se piden (pesosRecorridos es volatile y se asigna último);
+    // si dos hilos los calculan a la vez llegan a los mismos valores
+    private volatile boolean pesosRecorridos;
+    private int pesoMinimo;
+    private int pesoMaximo;
+    // Índice inverso (aristas entrantes agrupadas por destino); se arma la primera vez que se pide
+    // (inicioEntrantes es volatile y se asigna último: quien lo ve armado ve también los otros dos)
+    private volatile int[] inicioEntrantes;
+    private int[] aristasEntrantes;            // posición -> arista original (origen -> destino)
+    private int[] origenesEntrantes;
+
+    // Se queda con los arreglos tal cual: solo para arreglos recién armados que nadie más tiene
+    private GrafoCSR(Usuario[] usuarios, int[] inicio, int[] destinos, int[] pesos, boolean dirigido) {
+        if (inicio.length != usuarios.length + 1) {
+            throw new IllegalArgumentException("inicio debe tener " + (usuarios.length + 1) + " posiciones");
+        }
+        if (destinos.length != pesos.length || inicio[usuarios.length] != destinos.length) {
+            throw new IllegalArgumentException("destinos y pesos deben tener una posición por arista");
+        }
+        this.usuarios = usuarios;
+        this.inicio = inicio;
+        this.destinos = destinos;
+        this.pesos = pesos;
+        this.dirigido = dirigido;
+        this.indices = new HashMap<>();
+        for (int i = 0; i < usuarios.length; i++) {
+            indices.put(usuarios[i], i);
+        }
+    }
+
+    /**
+     * Arma una foto a partir de arreglos CSR ya hechos (ej. leídos de un archivo o generados). Los arreglos se
+     * copian, así que quien llama puede seguir usándolos sin cambiar la foto. Si no forman un CSR válido
+     * (inicio no arranca en 0, decrece o no termina en la cantidad de aristas, un destino fuera de rango,
+     * usuarios nulos o repetidos) tira IllegalArgumentException.
+     */
+    public static GrafoCSR crear(Usuario[] usuarios, int[] inicio, int[] destinos, int[] pesos, boolean dirigido) {
+        int cantidadVertices = usuarios.length;
+        if (inicio.length != cantidadVertices + 1 || inicio[0] != 0) {
+            throw new IllegalArgumentException("inicio debe tener " + (cantidadVertices + 1) + " posiciones y arrancar en 0");
+        }
+        for (int v = 0; v < cantidadVertices; v++) {
+            if (inicio[v] > inicio[v + 1]) {
+                throw new IllegalArgumentException("inicio no es creciente en el vértice " + v);
+            }
+        }
+        for (int destino : destinos) {
+            if (destino < 0 || destino >= cantidadVertices) {
+                throw new IllegalArgumentException("Arista hacia el vértice " + destino + " fuera de rango");
+            }
+        }
+        for (Usuario usuario : usuarios) {
+            if (usuario == null) {
+                throw new IllegalArgumentException("Usuario nulo en la foto");
+            }
+        }
+        GrafoCSR grafo = new GrafoCSR(usuarios.clone(), inicio.clone(), destinos.clone(), pesos.clone(), dirigido);
+        if (grafo.indices.size() != cantidadVertices) {
+            throw new IllegalArgumentException("Los usuarios de la foto están repetidos");
+        }
+        return grafo;
+    }
+
+    /** Arma la foto CSR a partir de las listas de adyacencia del grafo (orden de inserción). */
+    public static GrafoCSR desde(Grafo grafo) {
+        int cantidadVertices = grafo.getCantidadVertices();
+        Usuario[] usuarios = new Usuario[cantidadVertices];
+        int[] inicio = new int[cantidadVertices + 1];
+
+        for (int v = 0; v < cantidadVertices; v++) {
+            usuarios[v] = grafo.getUsuario(v);
+            inicio[v + 1] = inicio[v] + grafo.getAdyacentes(usuarios[v]).size();
+        }
+
+        int[] destinos = new int[inicio[cantidadVertices]];
+        int[] pesos = new int[inicio[cantidadVertices]];
+        for (int v = 0; v < cantidadVertices; v++) {
+            int arista = inicio[v];
+            for (Conexion conexion : grafo.getAdyacentes(usuarios[v])) {
+                destinos[arista] = grafo.getIndice(conexion.getDestino());
+                pesos[arista] = conexion.getPeso();
+                arista++;
+            }
+        }
+        return new GrafoCSR(usuarios, inicio, destinos, pesos, grafo.esDirigido());
+    }
+
+    public int getCantidadVertices() {
+        return usuarios.length;
+    }
+
+    public int getCantidadAristas() {
+        return destinos.length;
+    }
+
+    public Usuario getUsuario(int indice) {
+        return usuarios[indice];
+    }
+
+    /** Índice denso del usuario, o -1 si no pertenece al grafo. */
+    public int getIndice(Usuario usuario) {
+        Integer indice = indices.get(usuario);
+        return indice == null ? -1 : indice;
+    }
+
+    /** Primera arista saliente de v (inclusive). */
+    public int inicioAdyacentes(int v) {
+        return inicio[v];
+    }
+
+    /** Fin de las aristas salientes de v (exclusivo). */
+    public int finAdyacentes(int v) {
+        return inicio[v + 1];
+    }
+
+    public int getGrado(int v) {
+        return inicio[v + 1] - inicio[v];
+    }
+
+    public int getDestino(int arista) {
+        return destinos[arista];
+    }
+
+    public int getPeso(int arista) {
+        return pesos[arista];
+    }
+
+    /** Mayor peso de arista (0 si no hay aristas). */
+    public int getPesoMaximo() {
+        recorrerPesos();
+        return pesoMaximo;
+    }
+
+    /** Menor peso de arista (0 si no hay aristas); negativo si alguna conexión tiene peso negativo. */
+    public int getPesoMinimo() {
+        recorrerPesos();
+        return pesoMinimo;
+    }
+
+    private void recorrerPesos() {
+        if (!pesosRecorridos) {
+            int minimo = pesos.length == 0 ? 0 : Integer.MAX_VALUE;
+            int maximo = 0;
+            for (int peso : pesos) {
+                minimo = Math.min(minimo, peso);
+                maximo = Math.max(maximo, peso);
+            }
+            pesoMinimo = minimo;
+            pesoMaximo = maximo;
+            pesosRecorridos = true;
+        }
+    }
+
+    /** Primera arista entrante a v (inclusive); las posiciones entrantes no son índices de arista, ver {@link #getAristaEntrante}. */
+    public int inicioEntrantes(int v) {
+        return indiceInverso()[v];
+    }
+
+    /** Fin de las aristas entrantes a v (exclusivo). */
+    public int finEntrantes(int v) {
+        return indiceInverso()[v + 1];
+    }
+
+    /** Vértice del que sale la arista entrante en esa posición. */
+    public int getOrigenEntrante(int posicion) {
+        indiceInverso();
+        return origenesEntrantes[posicion];
+    }
+
+    /** Índice (en destinos/pesos) de la arista entrante en esa posición. */
+    public int getAristaEntrante(int posicion) {
+        indiceInverso();
+        return aristasEntrantes[posicion];
+    }
+
+    private int[] indiceInverso() {
+        int[] armado = inicioEntrantes;
+        return armado != null ? armado : armarIndiceInverso();
+    }
+
+    // Conteo por destino sobre las aristas; estable, así las entrantes de v quedan en orden de origen
+    private synchronized int[] armarIndiceInverso() {
+        if (inicioEntrantes == null) {
+            int cantidadVertices = usuarios.length;
+            int[] inicioInverso = new int[cantidadVertices + 1];
+            for (int destino : destinos) {
+                inicioInverso[destino + 1]++;
+            }
+            for (int v = 0; v < cantidadVertices; v++) {
+                inicioInverso[v + 1] += inicioInverso[v];
+            }
+            int[] siguiente = Arrays.copyOf(inicioInverso, cantidadVertices);
+            int[] aristas = new int[destinos.length];
+            int[] origenes = new int[destinos.length];
+            for (int v = 0; v < cantidadVertices; v++) {
+                for (int arista = inicio[v]; arista < inicio[v + 1]; arista++) {
+                    int posicion = siguiente[destinos[arista]]++;
+                    aristas[posicion] = arista;
+                    origenes[posicion] = v;
+                }
+            }
+            aristasEntrantes = aristas;
+            origenesEntrantes = origenes;
+            inicioEntrantes = inicioInverso;
+        }
+        return inicioEntrantes;
+    }
+
+    /** Origen de cada arista (arista -> vértice), para algoritmos que recorren la lista de aristas completa. */
+    public int[] origenesDeAristas() {
+        int[] origenes = new int[destinos.length];
+        for (int v = 0; v < usuarios.length; v++) {
+            Arrays.fill(origenes, inicio[v], inicio[v + 1], v);
+        }
+        return origenes;
+    }
+
+    /** Arma una Conexion equivalente a la arista (solo para mostrar resultados, no para recorrer). */
+    public Conexion getConexion(int origen, int arista) {
+        return new Conexion(usuarios[origen], usuarios[destinos[arista]], pesos[arista]);
+    }
+
+    public boolean esDirigido() {
+        return dirigido;
+    }
+
+    /**
+     * Vuelve a un Grafo mutable con los mismos usuarios y conexiones y el mismo modo (adaptador para UI y código
+     * existente). Si no es dirigido se agrega una dirección por amistad; la otra la pone el Grafo.
+     */
+    public Grafo aGrafo() {
+        Grafo grafo = new Grafo(dirigido);
+        for (Usuario usuario : usuarios) {
+            grafo.agregarUsuario(usuario);
+        }
+        for (int v = 0; v < usuarios.length; v++) {
+            for (int arista = inicio[v]; arista < inicio[v + 1]; arista++) {
+                if (dirigido || v <= destinos[arista]) {
+                    grafo.agregarConexion(usuarios[v], usuarios[destinos[arista]], pesos[arista]);
+                }
+            }
+        }
+        return grafo;
+    }
+
+    public List<Usuario> getUsuarios() {
+        return List.of(usuarios);
+    }
+}
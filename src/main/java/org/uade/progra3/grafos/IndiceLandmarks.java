@@ -0,0 +1,267 @@
+package org.uade.progra3.grafos;
+
+import org.uade.progra3.modelo.CaminoMinimo;
+import org.uade.progra3.modelo.Usuario;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Índice ALT (A*, landmarks y desigualdad triangular) para estimar al instante qué tan cerca están dos usuarios.
+ * Se eligen k usuarios "landmark" y se guardan las distancias desde y hacia cada uno. Para cualquier par s, t:
+ * <pre>
+ *   d(s, t) >= d(L, t) - d(L, s)     y     d(s, t) >= d(s, L) - d(t, L)      (cota inferior)
+ *   d(s, t) <= d(s, L) + d(L, t)                                             (cota superior)
+ * </pre>
+ * La cota inferior es además un potencial consistente, así que guía una búsqueda A* exacta que visita
+ * muchos menos vértices que Dijkstra. Los landmarks se eligen por lejanía: cada uno es el usuario más alejado
+ * de los ya elegidos, así quedan en la periferia y las cotas son más ajustadas.
+ * El índice vale para la foto del grafo con la que se armó; si el grafo cambia hay que volver a armarlo.
+ */
+public class IndiceLandmarks {
+
+    private static final int MAGIA = 0x414c5432; // "ALT2"
+
+    private final GrafoCSR grafo;
+    private final int[] landmarks;
+    // Por vértice, contiguas: desde[v * k + i] = d(landmark i, v), hacia[v * k + i] = d(v, landmark i)
+    private final int[] desde;
+    private final int[] hacia;
+
+    private IndiceLandmarks(GrafoCSR grafo, int[] landmarks, int[] desde, int[] hacia) {
+        this.grafo = grafo;
+        this.landmarks = landmarks;
+        this.desde = desde;
+        this.hacia = hacia;
+    }
+
+    /**
+     * Elige cantidad landmarks por lejanía y calcula sus tablas (2 Dijkstra por landmark).
+     * La cantidad va de 1 a la cantidad de usuarios, y las tablas (usuarios x landmarks) tienen que entrar en un arreglo.
+     */
+    public static IndiceLandmarks construir(GrafoCSR grafo, int cantidad) {
+        int n = grafo.getCantidadVertices();
+        if (cantidad < 1 || cantidad > n) {
+            throw new IllegalArgumentException(
+                    "La cantidad de landmarks debe estar entre 1 y " + n + " (cantidad de usuarios): " + cantidad);
+        }
+        int k = cantidad;
+        int tamanioTablas;
+        try {
+            tamanioTablas = Math.multiplyExact(n, k);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(
+                    "Las tablas de " + n + " usuarios x " + k + " landmarks no entran en un arreglo", e);
+        }
+        int[] landmarks = new int[k];
+        int[] desde = new int[tamanioTablas];
+        int[] hacia = new int[tamanioTablas];
+
+        // Distancia de cada vértice al landmark más cercano ya elegido; arranca por el de mayor grado
+        long[] cercania = new long[n];
+        Arrays.fill(cercania, Long.MAX_VALUE);
+        int siguiente = 0;
+        for (int v = 1; v < n; v++) {
+            if (grafo.getGrado(v) > grafo.getGrado(siguiente)) siguiente = v;
+        }
+
+        for (int i = 0; i < k; i++) {
+            landmarks[i] = siguiente;
+            int[] distanciasDesde = CaminosMinimos.calcularDistancias(grafo, siguiente);
+            int[] distanciasHacia = Djikstra.calcularDistanciasHacia(grafo, siguiente);
+            for (int v = 0; v < n; v++) {
+                desde[v * k + i] = distanciasDesde[v];
+                hacia[v * k + i] = distanciasHacia[v];
+                cercania[v] = Math.min(cercania[v], distanciasDesde[v]);
+            }
+            // El próximo: el más lejano de todos los elegidos (los que ninguno alcanza primero: otra componente)
+            cercania[siguiente] = -1;
+            for (int v = 0; v < n; v++) {
+                if (cercania[v] > cercania[siguiente]) siguiente = v;
+            }
+        }
+        return new IndiceLandmarks(grafo, landmarks, desde, hacia);
+    }
+
+    public GrafoCSR getGrafo() {
+        return grafo;
+    }
+
+    public int getCantidadLandmarks() {
+        return landmarks.length;
+    }
+
+    /** Landmarks elegidos, como usuarios. */
+    public List<Usuario> getLandmarks() {
+        Usuario[] usuarios = new Usuario[landmarks.length];
+        for (int i = 0; i < landmarks.length; i++) {
+            usuarios[i] = grafo.getUsuario(landmarks[i]);
+        }
+        return List.of(usuarios);
+    }
+
+    /**
+     * Cota inferior de d(origen, destino). Integer.MAX_VALUE si las tablas prueban que no hay camino
+     * (un landmark llega al origen pero no al destino, o el origen no llega a un landmark al que el destino sí).
+     */
+    public int cotaInferior(int origen, int destino) {
+        int k = landmarks.length;
+        long mejor = 0;
+        for (int i = 0; i < k; i++) {
+            int desdeOrigen = desde[origen * k + i];
+            int desdeDestino = desde[destino * k + i];
+            if (desdeOrigen != Integer.MAX_VALUE) {
+                if (desdeDestino == Integer.MAX_VALUE) return Integer.MAX_VALUE;
+                mejor = Math.max(mejor, (long) desdeDestino - desdeOrigen);
+            }
+            int haciaOrigen = hacia[origen * k + i];
+            int haciaDestino = hacia[destino * k + i];
+            if (haciaDestino != Integer.MAX_VALUE) {
+                if (haciaOrigen == Integer.MAX_VALUE) return Integer.MAX_VALUE;
+                mejor = Math.max(mejor, (long) haciaOrigen - haciaDestino);
+            }
+        }
+        return (int) mejor;
+    }
+
+    /** Cota superior de d(origen, destino) pasando por el mejor landmark; Integer.MAX_VALUE si ninguno sirve. */
+    public int cotaSuperior(int origen, int destino) {
+        if (origen == destino) {
+            return 0;
+        }
+        int k = landmarks.length;
+        long mejor = Integer.MAX_VALUE;
+        for (int i = 0; i < k; i++) {
+            int haciaLandmark = hacia[origen * k + i];
+            int desdeLandmark = desde[destino * k + i];
+            if (haciaLandmark != Integer.MAX_VALUE && desdeLandmark != Integer.MAX_VALUE) {
+                mejor = Math.min(mejor, (long) haciaLandmark + desdeLandmark);
+            }
+        }
+        return (int) mejor;
+    }
+
+    /** Camino mínimo exacto con A* usando la cota inferior como heurística. */
+    public CaminoMinimo calcularCamino(int origen, int destino) {
+        if (origen < 0 || destino < 0 || cotaInferior(origen, destino) == Integer.MAX_VALUE) {
+            return CaminoMinimo.inexistente();
+        }
+        EspacioTrabajoDijkstra espacio = EspaciosDeTrabajo.tomar(grafo.getCantidadVertices());
+        int[] distancia = espacio.distancia;
+        MonticuloIndexado pendientes = espacio.pendientes;
+        try {
+            espacio.fijarDistancia(origen, 0);
+            espacio.predecesor[origen] = -1;
+            pendientes.insertarODisminuir(origen, cotaInferior(origen, destino));
+
+            while (!pendientes.estaVacio()) {
+                int actual = pendientes.extraerMinimo();
+                if (actual == destino) {
+                    return Djikstra.camino(grafo, espacio, destino);
+                }
+                espacio.visitar(actual);
+                int distanciaActual = distancia[actual];
+                for (int arista = grafo.inicioAdyacentes(actual); arista < grafo.finAdyacentes(actual); arista++) {
+                    int vecino = grafo.getDestino(arista);
+                    int nuevaDistancia = distanciaActual + grafo.getPeso(arista);
+                    if (!espacio.visitado(vecino) && nuevaDistancia < distancia[vecino]) {
+                        int cota = cotaInferior(vecino, destino);
+                        if (cota == Integer.MAX_VALUE) continue; // desde ahí no se llega al destino
+                        espacio.fijarDistancia(vecino, nuevaDistancia);
+                        espacio.predecesor[vecino] = actual;
+                        espacio.aristaPredecesora[vecino] = arista;
+                        pendientes.insertarODisminuir(vecino, nuevaDistancia + cota);
+                    }
+                }
+            }
+            return CaminoMinimo.inexistente();
+        } finally {
+            EspaciosDeTrabajo.devolver(espacio);
+        }
+    }
+
+    /**
+     * Guarda el índice (big-endian: MAGIA, n, m, huella, k, k landmarks, n*k desde, n*k hacia).
+     * n, m y la huella del contenido de la foto sirven para rechazarlo si se carga con otro grafo: con tablas
+     * ajenas las cotas dejan de ser válidas y A* puede dar caminos que no son mínimos o ninguno.
+     */
+    public void guardar(Path archivo) throws IOException {
+        try (OutputStream os = Files.newOutputStream(archivo);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os, 1 << 16))) {
+            out.writeInt(MAGIA);
+            out.writeInt(grafo.getCantidadVertices());
+            out.writeInt(grafo.getCantidadAristas());
+            out.writeLong(huella(grafo));
+            out.writeInt(landmarks.length);
+            for (int landmark : landmarks) {
+                out.writeInt(landmark);
+            }
+            for (int valor : desde) {
+                out.writeInt(valor);
+            }
+            for (int valor : hacia) {
+                out.writeInt(valor);
+            }
+        }
+    }
+
+    public static IndiceLandmarks cargar(Path archivo, GrafoCSR grafo) throws IOException {
+        try (InputStream is = Files.newInputStream(archivo);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(is, 1 << 16))) {
+            if (in.readInt() != MAGIA) {
+                throw new IOException("No es un índice de landmarks: " + archivo);
+            }
+            int n = in.readInt();
+            int m = in.readInt();
+            if (n != grafo.getCantidadVertices() || m != grafo.getCantidadAristas()) {
+                throw new IOException("El índice se armó con otro grafo (" + n + " usuarios, " + m + " conexiones)");
+            }
+            if (in.readLong() != huella(grafo)) {
+                throw new IOException("El índice se armó con otro grafo (mismo tamaño, otras conexiones)");
+            }
+            int k = in.readInt();
+            if (k < 1 || k > n || (long) n * k > Integer.MAX_VALUE) {
+                throw new IOException("Cantidad de landmarks inválida: " + k);
+            }
+            int[] landmarks = leerEnteros(in, k);
+            for (int landmark : landmarks) {
+                if (landmark < 0 || landmark >= n) {
+                    throw new IOException("Landmark fuera de rango: " + landmark);
+                }
+            }
+            int[] desde = leerEnteros(in, n * k);
+            int[] hacia = leerEnteros(in, n * k);
+            return new IndiceLandmarks(grafo, landmarks, desde, hacia);
+        }
+    }
+
+    // FNV-1a de 64 bits sobre el CSR (inicio de cada vértice, destinos y pesos)
+    private static long huella(GrafoCSR grafo) {
+        long huella = 0xcbf29ce484222325L;
+        for (int v = 0; v < grafo.getCantidadVertices(); v++) {
+            huella = (huella ^ grafo.inicioAdyacentes(v)) * 0x100000001b3L;
+            for (int arista = grafo.inicioAdyacentes(v); arista < grafo.finAdyacentes(v); arista++) {
+                huella = (huella ^ grafo.getDestino(arista)) * 0x100000001b3L;
+                huella = (huella ^ grafo.getPeso(arista)) * 0x100000001b3L;
+            }
+        }
+        return huella;
+    }
+
+    private static int[] leerEnteros(DataInputStream in, int cantidad) throws IOException {
+        int[] enteros = new int[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            enteros[i] = in.readInt();
+        }
+        return enteros;
+    }
+}
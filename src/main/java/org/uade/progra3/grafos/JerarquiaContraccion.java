@@ -0,0 +1,503 @@
+package org.uade.progra3.grafos;
+
+import org.uade.progra3.modelo.CaminoMinimo;
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Jerarquía de contracción (Geisberger et al.) para responder muchas consultas de distancia entre dos usuarios
+ * sobre un grafo que casi no cambia.
+ * <p>
+ * Preproceso: se "contraen" los vértices de a uno, del menos al más importante. Contraer v es sacarlo del grafo
+ * agregando un atajo u -> w (peso c(u,v) + c(v,w)) por cada par de vecinos cuyo camino mínimo pasaba por v;
+ * si una búsqueda local encuentra otro camino igual o mejor (un testigo) el atajo no hace falta. El orden se
+ * elige por diferencia de aristas (atajos que agrega menos aristas que saca), vecinos ya contraídos y nivel
+ * en la jerarquía; al contraer un vértice se recalcula la prioridad de sus vecinos.
+ * <p>
+ * En una red social los vértices muy conectados generan atajos entre todos sus pares y contraerlos cuesta
+ * cuadrático en el grado, así que los que superan {@link #LIMITE_PARES} quedan sin contraer en un núcleo con
+ * los rangos más altos. Dentro del núcleo la consulta se comporta como un Dijkstra común.
+ * <p>
+ * Consulta: Dijkstra bidireccional donde la búsqueda hacia adelante solo sube (aristas hacia vértices contraídos
+ * después) y la de atrás también; las dos se encuentran en el vértice más importante del camino. Los vértices
+ * a los que se llegó por un camino que no es el mínimo no se expanden ("stall on demand"). Los atajos recuerdan
+ * el vértice que saltean, así el camino se puede desarmar hasta las conexiones originales.
+ * <p>
+ * Contra el Dijkstra completo de {@link Djikstra#calcularCaminosMinimos} gana por órdenes de magnitud, pero en
+ * redes de mundo pequeño (diámetro chico, sin la jerarquía natural de una red vial) el núcleo queda grande y
+ * {@link DijkstraBidireccional} suele ser igual o más rápido; ver PuntoAPuntoBenchmark.
+ * <p>
+ * Vale para la foto con la que se construyó: si el grafo cambia hay que volver a construirla.
+ */
+public class JerarquiaContraccion {
+
+    // Vértices que puede asentar una búsqueda de testigos antes de rendirse (y agregar el atajo por las dudas)
+    private static final int LIMITE_TESTIGOS = 100;
+    // Vértices con más pares entrante x saliente que esto no se contraen: quedan en el núcleo
+    private static final int LIMITE_PARES = 400;
+    private static final int NUCLEO = Integer.MAX_VALUE;
+    private static final int SIN_MEDIO = -1;
+
+    private final GrafoCSR grafo;
+    private final int[] rango;
+    // Subida: en u, aristas u -> w con rango[w] > rango[u]
+    private final int[] inicioSubida;
+    private final int[] destinoSubida;
+    private final int[] pesoSubida;
+    private final int[] medioSubida;
+    // Bajada (invertida): en w, aristas u -> w con rango[u] > rango[w], guardando u
+    private final int[] inicioBajada;
+    private final int[] origenBajada;
+    private final int[] pesoBajada;
+    private final int[] medioBajada;
+    private final int cantidadAtajos;
+
+    private JerarquiaContraccion(GrafoCSR grafo, int[] rango, Aristas subida, Aristas bajada, int cantidadAtajos) {
+        int n = grafo.getCantidadVertices();
+        this.grafo = grafo;
+        this.rango = rango;
+        this.inicioSubida = new int[n + 1];
+        this.destinoSubida = new int[subida.cantidad];
+        this.pesoSubida = new int[subida.cantidad];
+        this.medioSubida = new int[subida.cantidad];
+        subida.aCSR(inicioSubida, destinoSubida, pesoSubida, medioSubida);
+        this.inicioBajada = new int[n + 1];
+        this.origenBajada = new int[bajada.cantidad];
+        this.pesoBajada = new int[bajada.cantidad];
+        this.medioBajada = new int[bajada.cantidad];
+        bajada.aCSR(inicioBajada, origenBajada, pesoBajada, medioBajada);
+        this.cantidadAtajos = cantidadAtajos;
+    }
+
+    public static JerarquiaContraccion construir(GrafoCSR grafo) {
+        return new Contraccion(grafo).ejecutar();
+    }
+
+    public GrafoCSR getGrafo() {
+        return grafo;
+    }
+
+    /** Atajos agregados por el preproceso. */
+    public int getCantidadAtajos() {
+        return cantidadAtajos;
+    }
+
+    /** Posición del vértice en el orden de contracción (0 = el primero, el menos importante). */
+    public int getRango(int v) {
+        return rango[v];
+    }
+
+    public int calcularDistancia(int origen, int destino) {
+        return calcularCamino(origen, destino, false).getDistancia();
+    }
+
+    public CaminoMinimo calcularCamino(int origen, int destino) {
+        return calcularCamino(origen, destino, true);
+    }
+
+    private CaminoMinimo calcularCamino(int origen, int destino, boolean armarCamino) {
+        if (origen < 0 || destino < 0) {
+            return CaminoMinimo.inexistente();
+        }
+        if (origen == destino) {
+            return new CaminoMinimo(0, List.of(grafo.getUsuario(origen)), List.of());
+        }
+
+        EspacioTrabajoDijkstra adelante = EspaciosDeTrabajo.tomar(grafo.getCantidadVertices());
+        EspacioTrabajoDijkstra atras = EspaciosDeTrabajo.tomar(grafo.getCantidadVertices());
+        try {
+            adelante.fijarDistancia(origen, 0);
+            adelante.predecesor[origen] = -1;
+            adelante.pendientes.insertarODisminuir(origen, 0);
+            atras.fijarDistancia(destino, 0);
+            atras.predecesor[destino] = -1;
+            atras.pendientes.insertarODisminuir(destino, 0);
+
+            long mejor = Long.MAX_VALUE;
+            int encuentro = -1;
+            while (true) {
+                // cada lado sigue mientras su mínimo pendiente pueda mejorar el mejor encuentro
+                boolean sigueAdelante = !adelante.pendientes.estaVacio()
+                        && adelante.pendientes.getClave(adelante.pendientes.verMinimo()) < mejor;
+                boolean sigueAtras = !atras.pendientes.estaVacio()
+                        && atras.pendientes.getClave(atras.pendientes.verMinimo()) < mejor;
+                if (!sigueAdelante && !sigueAtras) break;
+
+                boolean porAdelante = sigueAdelante && (!sigueAtras
+                        || adelante.pendientes.getClave(adelante.pendientes.verMinimo())
+                        <= atras.pendientes.getClave(atras.pendientes.verMinimo()));
+                EspacioTrabajoDijkstra lado = porAdelante ? adelante : atras;
+                EspacioTrabajoDijkstra otro = porAdelante ? atras : adelante;
+                int[] inicio = porAdelante ? inicioSubida : inicioBajada;
+                int[] vecinos = porAdelante ? destinoSubida : origenBajada;
+                int[] pesos = porAdelante ? pesoSubida : pesoBajada;
+
+                int actual = lado.pendientes.extraerMinimo();
+                lado.visitar(actual);
+                int distanciaActual = lado.distancia[actual];
+                if (otro.distancia[actual] != Integer.MAX_VALUE
+                        && (long) distanciaActual + otro.distancia[actual] < mejor) {
+                    mejor = (long) distanciaActual + otro.distancia[actual];
+                    encuentro = actual;
+                }
+                if (estancado(lado, actual, porAdelante)) {
+                    continue;
+                }
+                for (int arista = inicio[actual]; arista < inicio[actual + 1]; arista++) {
+                    int vecino = vecinos[arista];
+                    int nuevaDistancia = distanciaActual + pesos[arista];
+                    if (!lado.visitado(vecino) && nuevaDistancia < lado.distancia[vecino]) {
+                        lado.fijarDistancia(vecino, nuevaDistancia);
+                        lado.predecesor[vecino] = actual;
+                        lado.aristaPredecesora[vecino] = arista;
+                        lado.pendientes.insertarODisminuir(vecino, nuevaDistancia);
+                    }
+                }
+            }
+
+            if (encuentro < 0) {
+                return CaminoMinimo.inexistente();
+            }
+            if (!armarCamino) {
+                return new CaminoMinimo((int) mejor, List.of(), List.of());
+            }
+            return desarmar(adelante, atras, encuentro, (int) mejor);
+        } finally {
+            EspaciosDeTrabajo.devolver(adelante);
+            EspaciosDeTrabajo.devolver(atras);
+        }
+    }
+
+    /*
+     * "Stall on demand": si un vértice más importante ya alcanzado llega a actual más barato por una arista que
+     * esta búsqueda no puede usar (baja), la distancia de actual no es la real y expandirlo solo agrega ruido.
+     */
+    private boolean estancado(EspacioTrabajoDijkstra lado, int actual, boolean porAdelante) {
+        int[] inicio = porAdelante ? inicioBajada : inicioSubida;
+        int[] vecinos = porAdelante ? origenBajada : destinoSubida;
+        int[] pesos = porAdelante ? pesoBajada : pesoSubida;
+        int distanciaActual = lado.distancia[actual];
+        for (int arista = inicio[actual]; arista < inicio[actual + 1]; arista++) {
+            int distanciaVecino = lado.distancia[vecinos[arista]];
+            if (distanciaVecino != Integer.MAX_VALUE && (long) distanciaVecino + pesos[arista] < distanciaActual) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Sube por los predecesores de adelante y baja por los de atrás, expandiendo cada atajo
+    private CaminoMinimo desarmar(EspacioTrabajoDijkstra adelante, EspacioTrabajoDijkstra atras, int encuentro, int distancia) {
+        List<int[]> tramos = new ArrayList<>(); // {origen, destino, peso, medio}
+        for (int v = encuentro; adelante.predecesor[v] >= 0; v = adelante.predecesor[v]) {
+            int arista = adelante.aristaPredecesora[v];
+            tramos.add(new int[] {adelante.predecesor[v], v, pesoSubida[arista], medioSubida[arista]});
+        }
+        Collections.reverse(tramos);
+        for (int v = encuentro; atras.predecesor[v] >= 0; v = atras.predecesor[v]) {
+            int arista = atras.aristaPredecesora[v];
+            tramos.add(new int[] {v, atras.predecesor[v], pesoBajada[arista], medioBajada[arista]});
+        }
+
+        List<Usuario> usuarios = new ArrayList<>();
+        List<Conexion> conexiones = new ArrayList<>();
+        usuarios.add(grafo.getUsuario(tramos.get(0)[0]));
+        for (int[] tramo : tramos) {
+            expandir(tramo[0], tramo[1], tramo[2], tramo[3], usuarios, conexiones);
+        }
+        return new CaminoMinimo(distancia, usuarios, conexiones);
+    }
+
+    private void expandir(int origen, int destino, int peso, int medio, List<Usuario> usuarios, List<Conexion> conexiones) {
+        if (medio == SIN_MEDIO) {
+            usuarios.add(grafo.getUsuario(destino));
+            conexiones.add(new Conexion(grafo.getUsuario(origen), grafo.getUsuario(destino), peso));
+            return;
+        }
+        int[] primera = buscarArista(origen, medio);
+        int[] segunda = buscarArista(medio, destino);
+        expandir(origen, medio, primera[0], primera[1], usuarios, conexiones);
+        expandir(medio, destino, segunda[0], segunda[1], usuarios, conexiones);
+    }
+
+    // {peso, medio} de la arista a -> b de la jerarquía; está en la subida de a o en la bajada de b según el rango
+    private int[] buscarArista(int a, int b) {
+        if (rango[b] > rango[a]) {
+            for (int arista = inicioSubida[a]; arista < inicioSubida[a + 1]; arista++) {
+                if (destinoSubida[arista] == b) return new int[] {pesoSubida[arista], medioSubida[arista]};
+            }
+        } else {
+            for (int arista = inicioBajada[b]; arista < inicioBajada[b + 1]; arista++) {
+                if (origenBajada[arista] == a) return new int[] {pesoBajada[arista], medioBajada[arista]};
+            }
+        }
+        throw new IllegalStateException("Falta la arista " + a + " -> " + b + " de un atajo");
+    }
+
+    /** Estado del preproceso: el grafo que va quedando (sin los ya contraídos, con los atajos) y la cola de prioridades. */
+    private static final class Contraccion {
+        private final GrafoCSR grafo;
+        private final int n;
+        private final Adyacencia[] salientes;
+        private final Adyacencia[] entrantes;
+        private final int[] vecinosContraidos;
+        private final int[] nivel;
+        private final EspacioTrabajoDijkstra espacio;
+        private final Aristas subida = new Aristas();
+        private final Aristas bajada = new Aristas();
+        private final ListaEnteros atajosPendientes = new ListaEnteros(); // de a 3: origen, destino, peso
+        private int cantidadAtajos;
+
+        Contraccion(GrafoCSR grafo) {
+            this.grafo = grafo;
+            this.n = grafo.getCantidadVertices();
+            this.salientes = new Adyacencia[n];
+            this.entrantes = new Adyacencia[n];
+            for (int v = 0; v < n; v++) {
+                salientes[v] = new Adyacencia();
+                entrantes[v] = new Adyacencia();
+            }
+            // Conexiones repetidas: queda la más liviana; lazos: no sirven para caminos mínimos
+            for (int v = 0; v < n; v++) {
+                for (int arista = grafo.inicioAdyacentes(v); arista < grafo.finAdyacentes(v); arista++) {
+                    int w = grafo.getDestino(arista);
+                    if (w == v) continue;
+                    salientes[v].agregarOBajar(w, grafo.getPeso(arista), SIN_MEDIO);
+                    entrantes[w].agregarOBajar(v, grafo.getPeso(arista), SIN_MEDIO);
+                }
+            }
+            this.vecinosContraidos = new int[n];
+            this.nivel = new int[n];
+            this.espacio = new EspacioTrabajoDijkstra(n);
+        }
+
+        JerarquiaContraccion ejecutar() {
+            MonticuloIndexado cola = new MonticuloIndexado(n);
+            for (int v = 0; v < n; v++) {
+                cola.insertarODisminuir(v, prioridad(v));
+            }
+            int[] rango = new int[n];
+            int siguienteRango = 0;
+            ListaEnteros vecinos = new ListaEnteros();
+            int[] anotado = new int[n];
+            while (!cola.estaVacio() && cola.getClave(cola.verMinimo()) != NUCLEO) {
+                int v = cola.extraerMinimo();
+                vecinos.vaciar();
+                anotarVecinos(salientes[v], v, anotado, vecinos);
+                anotarVecinos(entrantes[v], v, anotado, vecinos);
+                contraer(v);
+                rango[v] = siguienteRango++;
+                // Solo cambia la prioridad de los vecinos de v: se recalcula enseguida en lugar de esperar a sacarlos
+                for (int i = 0; i < vecinos.tamanio; i++) {
+                    int w = vecinos.datos[i];
+                    nivel[w] = Math.max(nivel[w], nivel[v] + 1);
+                    cola.actualizar(w, prioridad(w));
+                }
+            }
+            // Lo que queda es el núcleo: rangos más altos y todas sus aristas, que la consulta recorre como Dijkstra común
+            while (!cola.estaVacio()) {
+                int v = cola.extraerMinimo();
+                rango[v] = siguienteRango++;
+                Adyacencia salida = salientes[v];
+                for (int i = 0; i < salida.tamanio; i++) {
+                    subida.agregar(v, salida.vecinos[i], salida.pesos[i], salida.medios[i]);
+                }
+                Adyacencia entrada = entrantes[v];
+                for (int i = 0; i < entrada.tamanio; i++) {
+                    bajada.agregar(v, entrada.vecinos[i], entrada.pesos[i], entrada.medios[i]);
+                }
+            }
+            return new JerarquiaContraccion(grafo, rango, subida, bajada, cantidadAtajos);
+        }
+
+        private static void anotarVecinos(Adyacencia adyacencia, int v, int[] anotado, ListaEnteros vecinos) {
+            for (int i = 0; i < adyacencia.tamanio; i++) {
+                int w = adyacencia.vecinos[i];
+                if (anotado[w] != v + 1) {
+                    anotado[w] = v + 1;
+                    vecinos.agregar(w);
+                }
+            }
+        }
+
+        private int prioridad(int v) {
+            if (salientes[v].tamanio * entrantes[v].tamanio > LIMITE_PARES) {
+                return NUCLEO;
+            }
+            int atajos = buscarAtajos(v, false);
+            return 2 * (atajos - salientes[v].tamanio - entrantes[v].tamanio) + vecinosContraidos[v] + nivel[v];
+        }
+
+        private void contraer(int v) {
+            buscarAtajos(v, true);
+            Adyacencia salida = salientes[v];
+            Adyacencia entrada = entrantes[v];
+            // Todo lo que sigue conectado a v se contrae después: son aristas de subida / bajada de v
+            for (int i = 0; i < salida.tamanio; i++) {
+                subida.agregar(v, salida.vecinos[i], salida.pesos[i], salida.medios[i]);
+                entrantes[salida.vecinos[i]].quitar(v);
+                vecinosContraidos[salida.vecinos[i]]++;
+            }
+            for (int i = 0; i < entrada.tamanio; i++) {
+                bajada.agregar(v, entrada.vecinos[i], entrada.pesos[i], entrada.medios[i]);
+                salientes[entrada.vecinos[i]].quitar(v);
+                vecinosContraidos[entrada.vecinos[i]]++;
+            }
+            for (int i = 0; i < atajosPendientes.tamanio; i += 3) {
+                int u = atajosPendientes.datos[i];
+                int w = atajosPendientes.datos[i + 1];
+                int peso = atajosPendientes.datos[i + 2];
+                // Si la búsqueda de testigos se cortó antes de ver una arista u -> w más liviana, no hay atajo
+                boolean cambio = salientes[u].agregarOBajar(w, peso, v);
+                entrantes[w].agregarOBajar(u, peso, v);
+                if (cambio) {
+                    cantidadAtajos++;
+                }
+            }
+            atajosPendientes.vaciar();
+            salientes[v] = new Adyacencia();
+            entrantes[v] = new Adyacencia();
+        }
+
+        // Cuenta (y si agregar, deja en atajosPendientes) los atajos u -> w que hacen falta al sacar v
+        private int buscarAtajos(int v, boolean agregar) {
+            Adyacencia entrada = entrantes[v];
+            Adyacencia salida = salientes[v];
+            int atajos = 0;
+            for (int i = 0; i < entrada.tamanio; i++) {
+                int u = entrada.vecinos[i];
+                int pesoEntrada = entrada.pesos[i];
+                int maximo = 0;
+                for (int j = 0; j < salida.tamanio; j++) {
+                    if (salida.vecinos[j] != u) maximo = Math.max(maximo, salida.pesos[j]);
+                }
+                try {
+                    buscarTestigos(u, v, pesoEntrada + maximo);
+                    for (int j = 0; j < salida.tamanio; j++) {
+                        int w = salida.vecinos[j];
+                        if (w == u) continue;
+                        int pesoAtajo = pesoEntrada + salida.pesos[j];
+                        if (espacio.distancia[w] > pesoAtajo) {
+                            atajos++;
+                            if (agregar) {
+                                atajosPendientes.agregar(u);
+                                atajosPendientes.agregar(w);
+                                atajosPendientes.agregar(pesoAtajo);
+                            }
+                        }
+                    }
+                } finally {
+                    espacio.limpiar();
+                }
+            }
+            return atajos;
+        }
+
+        // Dijkstra local desde u sin pasar por v, hasta la distancia tope o LIMITE_TESTIGOS vértices
+        private void buscarTestigos(int u, int excluido, int tope) {
+            int[] distancia = espacio.distancia;
+            MonticuloIndexado pendientes = espacio.pendientes;
+            espacio.fijarDistancia(u, 0);
+            pendientes.insertarODisminuir(u, 0);
+            int asentados = 0;
+            while (!pendientes.estaVacio() && asentados++ < LIMITE_TESTIGOS) {
+                int actual = pendientes.extraerMinimo();
+                int distanciaActual = distancia[actual];
+                if (distanciaActual > tope) break;
+                Adyacencia salida = salientes[actual];
+                for (int i = 0; i < salida.tamanio; i++) {
+                    int vecino = salida.vecinos[i];
+                    if (vecino == excluido) continue;
+                    int nuevaDistancia = distanciaActual + salida.pesos[i];
+                    if (nuevaDistancia <= tope && nuevaDistancia < distancia[vecino]) {
+                        espacio.fijarDistancia(vecino, nuevaDistancia);
+                        pendientes.insertarODisminuir(vecino, nuevaDistancia);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Vecinos de un vértice en el grafo que se va contrayendo (a lo sumo una arista por vecino, la más liviana). */
+    private static final class Adyacencia {
+        int[] vecinos = new int[4];
+        int[] pesos = new int[4];
+        int[] medios = new int[4];
+        int tamanio;
+
+        /** Agrega la arista o baja el peso de la que ya estaba; false si la que estaba ya era igual o más liviana. */
+        boolean agregarOBajar(int vecino, int peso, int medio) {
+            for (int i = 0; i < tamanio; i++) {
+                if (vecinos[i] == vecino) {
+                    if (peso < pesos[i]) {
+                        pesos[i] = peso;
+                        medios[i] = medio;
+                        return true;
+                    }
+                    return false;
+                }
+            }
+            if (tamanio == vecinos.length) {
+                vecinos = Arrays.copyOf(vecinos, tamanio * 2);
+                pesos = Arrays.copyOf(pesos, tamanio * 2);
+                medios = Arrays.copyOf(medios, tamanio * 2);
+            }
+            vecinos[tamanio] = vecino;
+            pesos[tamanio] = peso;
+            medios[tamanio] = medio;
+            tamanio++;
+            return true;
+        }
+
+        void quitar(int vecino) {
+            for (int i = 0; i < tamanio; i++) {
+                if (vecinos[i] == vecino) {
+                    tamanio--;
+                    vecinos[i] = vecinos[tamanio];
+                    pesos[i] = pesos[tamanio];
+                    medios[i] = medios[tamanio];
+                    return;
+                }
+            }
+        }
+    }
+
+    /** Aristas sueltas (dueño, vecino, peso, medio) que al final se ordenan por dueño en formato CSR. */
+    private static final class Aristas {
+        private final ListaEnteros duenios = new ListaEnteros();
+        private final ListaEnteros vecinos = new ListaEnteros();
+        private final ListaEnteros pesos = new ListaEnteros();
+        private final ListaEnteros medios = new ListaEnteros();
+        int cantidad;
+
+        void agregar(int duenio, int vecino, int peso, int medio) {
+            duenios.agregar(duenio);
+            vecinos.agregar(vecino);
+            pesos.agregar(peso);
+            medios.agregar(medio);
+            cantidad++;
+        }
+
+        void aCSR(int[] inicio, int[] vecinosCSR, int[] pesosCSR, int[] mediosCSR) {
+            int n = inicio.length - 1;
+            for (int i = 0; i < cantidad; i++) {
+                inicio[duenios.datos[i] + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                inicio[v + 1] += inicio[v];
+            }
+            int[] siguiente = Arrays.copyOf(inicio, n);
+            for (int i = 0; i < cantidad; i++) {
+                int posicion = siguiente[duenios.datos[i]]++;
+                vecinosCSR[posicion] = vecinos.datos[i];
+                pesosCSR[posicion] = pesos.datos[i];
+                mediosCSR[posicion] = medios.datos[i];
+            }
+        }
+    }
+}
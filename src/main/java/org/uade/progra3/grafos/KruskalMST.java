@@ -1,6 +1,5 @@
 package org.uade.progra3.grafos;
 
-import org.uade.progra3.modelo.Conexion;
 import org.uade.progra3.modelo.Usuario;
 
 import java.util.*;
@@ -8,61 +7,59 @@ import java.util.*;
 public class KruskalMST {
 
 
+    /**
+     * Devuelve la red mínima. Si el grafo no es conexo devuelve un bosque:
+     * un árbol de recubrimiento mínimo por cada componente.
+     */
     public static Grafo arbolDeRecubrimientoMinimo(Grafo grafo) {
-        Grafo resultado = new Grafo();
-        int qtyUsuarios = 0;
-        Map<Usuario, Usuario> indice = new HashMap<>();
+        return arbolDeRecubrimientoMinimo(grafo.congelar(), grafo.getUsuarios());
+    }
+
+    /** Kruskal sobre la foto CSR: devuelve la red mínima como Grafo, igual que la versión sobre Grafo. */
+    public static Grafo arbolDeRecubrimientoMinimo(GrafoCSR grafo) {
+        return arbolDeRecubrimientoMinimo(grafo, grafo.getUsuarios());
+    }
 
-        // Agregamos los usuarios al resultado final y a cada índice lo marcamos como su propio padre.
-        // Con esto aislamos cada usuario.
-        for(Usuario v: grafo.getUsuarios()) {
+    private static Grafo arbolDeRecubrimientoMinimo(GrafoCSR grafo, Collection<Usuario> usuarios) {
+        Grafo resultado = new Grafo(grafo.esDirigido());
+
+        // Agregamos los usuarios al resultado final. En el union-find cada usuario arranca
+        // siendo su propio conjunto (componente aislada).
+        for(Usuario v: usuarios) {
             resultado.agregarUsuario(v);
-            indice.put(v, v);
-            qtyUsuarios ++;
         }
+        ConjuntosDisjuntos componentes = new ConjuntosDisjuntos(grafo.getCantidadVertices());
 
-        // Obtenemos todos los pesos y los ponemos en la cola de prioridad.
-        PriorityQueue<Conexion> pq = new PriorityQueue<>();
-        for(Usuario v1 : grafo.getUsuarios()) {
-            for(Usuario v2 : grafo.getUsuarios()) {
-                if(grafo.existeConexion(v1, v2) && !resultado.existeConexion(v1, v2)) {
-                    int peso = grafo.getPesoConexion(v1, v2);
-                    pq.add(new Conexion(v1, v2, peso));
-                }
-            }
-        }
+        // Candidatas: todas las aristas, directo de la lista CSR (sin probar cada par de usuarios).
+        // Cada una se empaqueta en un long (peso en los 32 bits altos, índice de arista en los bajos)
+        // para ordenar un arreglo primitivo en vez de objetos Conexion.
+        int[] origenes = grafo.origenesDeAristas();
+        long[] candidatas = ordenarPorPeso(grafo);
 
-        // Para cada Usuario, hacemos un recorrido
-        while(qtyUsuarios > 1) {
-            // Acá el algoritmo de Java agarra la menor y la saca de la cola de prioridad
-            Conexion ConexionMasOptima = pq.poll();
-            if(ConexionMasOptima == null) {
-                continue;
-            }
-            if(origenYDestinoNotEquals(indice, ConexionMasOptima)) {
-                // Acá unificamos componentes, sin agregar las conexiones aún
-                qtyUsuarios --;
-                Usuario origen = indice.get(ConexionMasOptima.getOrigen());
-                Usuario destino = indice.get(ConexionMasOptima.getDestino());
-                for(Usuario v : indice.keySet()) {
-                    if (indice.get(v).equals(origen)) {
-                        indice.put(v, destino);
-                    }
-                }
-                // Finalmente agregamos la conexión al grafo saliente
-                resultado.agregarConexion(ConexionMasOptima.getOrigen(),
-                        ConexionMasOptima.getDestino(),
-                        ConexionMasOptima.getPeso()
+        // Hasta que quede una sola componente o no queden candidatas (grafo no conexo)
+        for (int i = 0; i < candidatas.length && componentes.getCantidadConjuntos() > 1; i++) {
+            int arista = (int) candidatas[i];
+            int origen = origenes[arista];
+            int destino = grafo.getDestino(arista);
+
+            // unir devuelve false si ya estaban en la misma componente (la arista cerraría un ciclo)
+            if(componentes.unir(origen, destino)) {
+                resultado.agregarConexion(grafo.getUsuario(origen),
+                        grafo.getUsuario(destino),
+                        grafo.getPeso(arista)
                 );
             }
         }
         return resultado;
     }
 
-    private static boolean origenYDestinoNotEquals( Map<Usuario, Usuario> indice, Conexion Conexion) {
-        Usuario v1 = indice.get(Conexion.getOrigen());
-        Usuario v2 = indice.get(Conexion.getDestino());
-
-        return !v1.equals(v2);
+    /** Aristas empaquetadas como (peso << 32 | índice) y ordenadas: a igual peso, respeta el orden de inserción. */
+    static long[] ordenarPorPeso(GrafoCSR grafo) {
+        long[] candidatas = new long[grafo.getCantidadAristas()];
+        for (int arista = 0; arista < candidatas.length; arista++) {
+            candidatas[arista] = ((long) grafo.getPeso(arista) << 32) | arista;
+        }
+        Arrays.parallelSort(candidatas);
+        return candidatas;
     }
-}
\ No newline at end of file
+}
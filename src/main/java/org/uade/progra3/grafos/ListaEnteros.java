@@ -0,0 +1,28 @@
+package org.uade.progra3.grafos;
+
+import java.util.Arrays;
+
+/** Lista de int que crece sola, sin cajas. Los algoritmos leen datos[0..tamanio) directamente. */
+final class ListaEnteros {
+    int[] datos = new int[16];
+    int tamanio;
+
+    void agregar(int valor) {
+        if (tamanio == datos.length) {
+            datos = Arrays.copyOf(datos, tamanio * 2);
+        }
+        datos[tamanio++] = valor;
+    }
+
+    void agregarTodos(ListaEnteros otra) {
+        if (tamanio + otra.tamanio > datos.length) {
+            datos = Arrays.copyOf(datos, Math.max(datos.length * 2, tamanio + otra.tamanio));
+        }
+        System.arraycopy(otra.datos, 0, datos, tamanio, otra.tamanio);
+        tamanio += otra.tamanio;
+    }
+
+    void vaciar() {
+        tamanio = 0;
+    }
+}
@@ -0,0 +1,131 @@
+package org.uade.progra3.grafos;
+
+/**
+ * Montículo binario de mínimos sobre vértices enteros (0..capacidad-1) con disminución de clave.
+ * Cada vértice aparece a lo sumo una vez; si se vuelve a insertar con una clave menor, se reubica
+ * en lugar de duplicarse. Todas las operaciones son O(log n) y no reservan memoria después de crearse.
+ */
+public class MonticuloIndexado {
+
+    private final int[] monticulo;   // posición en el montículo -> vértice
+    private final int[] posicion;    // vértice -> posición + 1 (0 = no está en el montículo)
+    private final int[] clave;       // vértice -> clave actual
+    private int tamanio;
+
+    public MonticuloIndexado(int capacidad) {
+        this.monticulo = new int[capacidad];
+        this.posicion = new int[capacidad];
+        this.clave = new int[capacidad];
+        this.tamanio = 0;
+    }
+
+    public boolean estaVacio() {
+        return tamanio == 0;
+    }
+
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    public int getCapacidad() {
+        return monticulo.length;
+    }
+
+    public boolean contiene(int vertice) {
+        return posicion[vertice] != 0;
+    }
+
+    public int getClave(int vertice) {
+        return clave[vertice];
+    }
+
+    /** Devuelve el vértice de menor clave sin sacarlo. */
+    public int verMinimo() {
+        return monticulo[0];
+    }
+
+    /**
+     * Inserta el vértice con la clave dada o, si ya estaba, le baja la clave.
+     * Si la clave nueva no es menor que la actual no hace nada.
+     */
+    public void insertarODisminuir(int vertice, int nuevaClave) {
+        if (posicion[vertice] == 0) {
+            clave[vertice] = nuevaClave;
+            monticulo[tamanio] = vertice;
+            posicion[vertice] = tamanio + 1;
+            tamanio++;
+            subir(tamanio - 1);
+        } else if (nuevaClave < clave[vertice]) {
+            clave[vertice] = nuevaClave;
+            subir(posicion[vertice] - 1);
+        }
+    }
+
+    /** Cambia la clave de un vértice que ya está en el montículo, sea para arriba o para abajo. */
+    public void actualizar(int vertice, int nuevaClave) {
+        int anterior = clave[vertice];
+        clave[vertice] = nuevaClave;
+        if (nuevaClave < anterior) {
+            subir(posicion[vertice] - 1);
+        } else if (nuevaClave > anterior) {
+            bajar(posicion[vertice] - 1);
+        }
+    }
+
+    /** Saca y devuelve el vértice de menor clave. */
+    public int extraerMinimo() {
+        int minimo = monticulo[0];
+        tamanio--;
+        posicion[minimo] = 0;
+        if (tamanio > 0) {
+            int ultimo = monticulo[tamanio];
+            monticulo[0] = ultimo;
+            posicion[ultimo] = 1;
+            bajar(0);
+        }
+        return minimo;
+    }
+
+    /** Deja el montículo vacío en O(tamaño) para poder reutilizarlo en otra búsqueda. */
+    public void vaciar() {
+        for (int i = 0; i < tamanio; i++) {
+            posicion[monticulo[i]] = 0;
+        }
+        tamanio = 0;
+    }
+
+    private void subir(int i) {
+        int vertice = monticulo[i];
+        int valor = clave[vertice];
+        while (i > 0) {
+            int padre = (i - 1) >>> 1;
+            int verticePadre = monticulo[padre];
+            if (clave[verticePadre] <= valor) break;
+            monticulo[i] = verticePadre;
+            posicion[verticePadre] = i + 1;
+            i = padre;
+        }
+        monticulo[i] = vertice;
+        posicion[vertice] = i + 1;
+    }
+
+    private void bajar(int i) {
+        int vertice = monticulo[i];
+        int valor = clave[vertice];
+        int mitad = tamanio >>> 1;
+        while (i < mitad) {
+            int hijo = 2 * i + 1;
+            int derecho = hijo + 1;
+            if (derecho < tamanio && clave[monticulo[derecho]] < clave[monticulo[hijo]]) {
+                hijo = derecho;
+            }
+            int verticeHijo = monticulo[hijo];
+            if (valor <= clave[verticeHijo]) break;
+            monticulo[i] = verticeHijo;
+            posicion[verticeHijo] = i + 1;
+            i = hijo;
+        }
+        monticulo[i] = vertice;
+        posicion[vertice] = i + 1;
+    }
+}
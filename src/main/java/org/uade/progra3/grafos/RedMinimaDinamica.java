@@ -0,0 +1,307 @@
+package org.uade.progra3.grafos;
+
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.Arrays;
+
+/**
+ * Red mínima (bosque de recubrimiento mínimo, igual que {@link KruskalMST}) que se mantiene al día mientras
+ * llegan conexiones nuevas, sin volver a ordenar todas las aristas.
+ * <p>
+ * Al agregar u - v con peso p: si u y v están en árboles distintos la conexión entra directo; si ya estaban
+ * conectados se cierra un ciclo, y la propiedad del ciclo dice que sobra su arista más pesada. Si esa arista
+ * pesa más que p se reemplaza por la nueva; si no, la nueva no entra. Una conexión más liviana entre dos
+ * usuarios que ya estaban unidos es el mismo caso, así que bajar un peso también se resuelve así.
+ * <p>
+ * Para encontrar la arista más pesada del camino u ... v el bosque se guarda en un link-cut tree (Sleator-Tarjan):
+ * cada arista del árbol es un nodo más, con su peso, entre sus dos extremos, y cada árbol auxiliar (splay) mantiene
+ * el nodo de mayor peso de su subárbol. Unir, cortar y consultar el máximo de un camino cuestan O(log n)
+ * amortizado. Cada vértice (índice denso del {@link Grafo}) tiene su nodo; los nodos de arista se reutilizan
+ * al cortar.
+ */
+public class RedMinimaDinamica {
+
+    private static final int SIN_NODO = -1;
+    private static final int PESO_VERTICE = Integer.MIN_VALUE;
+
+    private final Grafo grafo;
+    // Link-cut tree: árboles splay por camino preferido, con padre "de camino" en los que son raíz de su splay
+    private int[] izquierdo = new int[0];
+    private int[] derecho = new int[0];
+    private int[] padre = new int[0];
+    private boolean[] invertido = new boolean[0];
+    private int[] peso = new int[0];
+    private int[] maximo = new int[0];      // nodo de mayor peso en el subárbol splay
+    // Nodos de arista: extremos (índices de vértice) y la conexión que representan
+    private int[] extremoA = new int[0];
+    private int[] extremoB = new int[0];
+    private Conexion[] conexiones = new Conexion[0];
+    private int[] nodoDeVertice = new int[0];
+    private final ListaEnteros nodosLibres = new ListaEnteros();
+    private final ListaEnteros pilaSplay = new ListaEnteros();
+    private int cantidadNodos;
+
+    private int cantidadConexiones;
+    private long pesoTotal;
+    // Última red armada como Grafo; se descarta cuando el árbol cambia
+    private Grafo redMinima;
+
+    /** Arma la estructura a partir de una red mínima ya calculada sobre el grafo (ej. con Kruskal o Borůvka). */
+    public RedMinimaDinamica(Grafo grafo, Grafo redMinima) {
+        this.grafo = grafo;
+        asegurarVertices(grafo.getCantidadVertices());
+        for (Conexion conexion : redMinima.getConexiones()) {
+            enlazar(conexion, grafo.getIndice(conexion.getOrigen()), grafo.getIndice(conexion.getDestino()));
+        }
+        this.redMinima = redMinima;
+    }
+
+    /** Calcula la red mínima del grafo con Kruskal y la deja lista para recibir conexiones. */
+    public static RedMinimaDinamica calcular(Grafo grafo) {
+        return new RedMinimaDinamica(grafo, KruskalMST.arbolDeRecubrimientoMinimo(grafo));
+    }
+
+    /**
+     * Actualiza la red mínima con una conexión que se acaba de agregar al grafo (o una más liviana entre dos
+     * usuarios que ya se conocían). Devuelve true si la red mínima cambió.
+     */
+    public boolean agregarConexion(Usuario origen, Usuario destino, int pesoConexion) {
+        int u = grafo.getIndice(origen);
+        int v = grafo.getIndice(destino);
+        if (u < 0 || v < 0) {
+            throw new IllegalArgumentException("La conexión debe estar agregada al grafo");
+        }
+        if (u == v) {
+            return false;
+        }
+        asegurarVertices(grafo.getCantidadVertices());
+        int nodoU = nodoDeVertice[u];
+        int nodoV = nodoDeVertice[v];
+
+        if (encontrarRaiz(nodoU) != encontrarRaiz(nodoV)) {
+            enlazar(new Conexion(origen, destino, pesoConexion), u, v);
+            redMinima = null;
+            return true;
+        }
+        int masPesada = maximoEnCamino(nodoU, nodoV);
+        if (peso[masPesada] <= pesoConexion) {
+            return false; // cerraría un ciclo sin mejorar nada
+        }
+        cortar(masPesada);
+        enlazar(new Conexion(origen, destino, pesoConexion), u, v);
+        redMinima = null;
+        return true;
+    }
+
+    /** La red mínima actual como Grafo (se arma en O(V) la primera vez que se pide después de un cambio). */
+    public Grafo getRedMinima() {
+        if (redMinima == null) {
+            Grafo red = new Grafo(grafo.esDirigido());
+            for (Usuario usuario : grafo.getUsuarios()) {
+                red.agregarUsuario(usuario);
+            }
+            for (int nodo = 0; nodo < cantidadNodos; nodo++) {
+                if (conexiones[nodo] != null) {
+                    red.agregarConexion(conexiones[nodo].getOrigen(), conexiones[nodo].getDestino(), conexiones[nodo].getPeso());
+                }
+            }
+            redMinima = red;
+        }
+        return redMinima;
+    }
+
+    public long getPesoTotal() {
+        return pesoTotal;
+    }
+
+    public int getCantidadConexiones() {
+        return cantidadConexiones;
+    }
+
+    // ---- aristas del bosque ----
+
+    private void enlazar(Conexion conexion, int u, int v) {
+        int nodo = nuevoNodo(conexion.getPeso());
+        extremoA[nodo] = u;
+        extremoB[nodo] = v;
+        conexiones[nodo] = conexion;
+        // u - nodo - v
+        hacerRaiz(nodoDeVertice[u]);
+        padre[nodoDeVertice[u]] = nodo;
+        hacerRaiz(nodoDeVertice[v]);
+        padre[nodoDeVertice[v]] = nodo;
+        cantidadConexiones++;
+        pesoTotal += conexion.getPeso();
+    }
+
+    private void cortar(int nodo) {
+        cortar(nodoDeVertice[extremoA[nodo]], nodo);
+        cortar(nodo, nodoDeVertice[extremoB[nodo]]);
+        cantidadConexiones--;
+        pesoTotal -= peso[nodo];
+        conexiones[nodo] = null;
+        nodosLibres.agregar(nodo);
+    }
+
+    // Corta la arista x - y del link-cut tree (tienen que ser adyacentes)
+    private void cortar(int x, int y) {
+        hacerRaiz(x);
+        acceder(y);
+        splay(y);
+        // después de acceder, x es el hijo izquierdo de y y no tiene hijo derecho
+        izquierdo[y] = SIN_NODO;
+        padre[x] = SIN_NODO;
+        actualizar(y);
+    }
+
+    private int maximoEnCamino(int x, int y) {
+        hacerRaiz(x);
+        acceder(y);
+        splay(y);
+        return maximo[y];
+    }
+
+    // ---- link-cut tree ----
+
+    private boolean esRaizSplay(int x) {
+        int p = padre[x];
+        return p == SIN_NODO || (izquierdo[p] != x && derecho[p] != x);
+    }
+
+    private void actualizar(int x) {
+        int mejor = x;
+        int l = izquierdo[x];
+        int r = derecho[x];
+        if (l != SIN_NODO && peso[maximo[l]] > peso[mejor]) mejor = maximo[l];
+        if (r != SIN_NODO && peso[maximo[r]] > peso[mejor]) mejor = maximo[r];
+        maximo[x] = mejor;
+    }
+
+    private void empujar(int x) {
+        if (invertido[x]) {
+            int l = izquierdo[x];
+            izquierdo[x] = derecho[x];
+            derecho[x] = l;
+            if (izquierdo[x] != SIN_NODO) invertido[izquierdo[x]] ^= true;
+            if (derecho[x] != SIN_NODO) invertido[derecho[x]] ^= true;
+            invertido[x] = false;
+        }
+    }
+
+    private void rotar(int x) {
+        int p = padre[x];
+        int g = padre[p];
+        if (!esRaizSplay(p)) {
+            if (izquierdo[g] == p) izquierdo[g] = x;
+            else derecho[g] = x;
+        }
+        padre[x] = g;
+        if (izquierdo[p] == x) {
+            izquierdo[p] = derecho[x];
+            if (derecho[x] != SIN_NODO) padre[derecho[x]] = p;
+            derecho[x] = p;
+        } else {
+            derecho[p] = izquierdo[x];
+            if (izquierdo[x] != SIN_NODO) padre[izquierdo[x]] = p;
+            izquierdo[x] = p;
+        }
+        padre[p] = x;
+        actualizar(p);
+        actualizar(x);
+    }
+
+    private void splay(int x) {
+        // las inversiones pendientes se bajan desde la raíz del splay antes de rotar
+        pilaSplay.vaciar();
+        int y = x;
+        pilaSplay.agregar(y);
+        while (!esRaizSplay(y)) {
+            y = padre[y];
+            pilaSplay.agregar(y);
+        }
+        for (int i = pilaSplay.tamanio - 1; i >= 0; i--) {
+            empujar(pilaSplay.datos[i]);
+        }
+        while (!esRaizSplay(x)) {
+            int p = padre[x];
+            if (!esRaizSplay(p)) {
+                int g = padre[p];
+                boolean zigZig = (izquierdo[g] == p) == (izquierdo[p] == x);
+                rotar(zigZig ? p : x);
+            }
+            rotar(x);
+        }
+    }
+
+    // Deja el camino raíz ... x como camino preferido, con x al final
+    private void acceder(int x) {
+        int anterior = SIN_NODO;
+        for (int y = x; y != SIN_NODO; y = padre[y]) {
+            splay(y);
+            derecho[y] = anterior;
+            actualizar(y);
+            anterior = y;
+        }
+        splay(x);
+    }
+
+    private void hacerRaiz(int x) {
+        acceder(x);
+        invertido[x] ^= true;
+    }
+
+    private int encontrarRaiz(int x) {
+        acceder(x);
+        int y = x;
+        empujar(y);
+        while (izquierdo[y] != SIN_NODO) {
+            y = izquierdo[y];
+            empujar(y);
+        }
+        splay(y);
+        return y;
+    }
+
+    // ---- memoria ----
+
+    private void asegurarVertices(int cantidadVertices) {
+        int anteriores = nodoDeVertice.length;
+        if (cantidadVertices <= anteriores) return;
+        nodoDeVertice = Arrays.copyOf(nodoDeVertice, cantidadVertices);
+        for (int v = anteriores; v < cantidadVertices; v++) {
+            nodoDeVertice[v] = nuevoNodo(PESO_VERTICE);
+        }
+    }
+
+    private int nuevoNodo(int pesoNodo) {
+        int nodo;
+        if (nodosLibres.tamanio > 0) {
+            nodo = nodosLibres.datos[--nodosLibres.tamanio];
+        } else {
+            if (cantidadNodos == peso.length) {
+                crecer(Math.max(16, 2 * cantidadNodos));
+            }
+            nodo = cantidadNodos++;
+        }
+        izquierdo[nodo] = SIN_NODO;
+        derecho[nodo] = SIN_NODO;
+        padre[nodo] = SIN_NODO;
+        invertido[nodo] = false;
+        peso[nodo] = pesoNodo;
+        maximo[nodo] = nodo;
+        return nodo;
+    }
+
+    private void crecer(int capacidad) {
+        izquierdo = Arrays.copyOf(izquierdo, capacidad);
+        derecho = Arrays.copyOf(derecho, capacidad);
+        padre = Arrays.copyOf(padre, capacidad);
+        invertido = Arrays.copyOf(invertido, capacidad);
+        peso = Arrays.copyOf(peso, capacidad);
+        maximo = Arrays.copyOf(maximo, capacidad);
+        extremoA = Arrays.copyOf(extremoA, capacidad);
+        extremoB = Arrays.copyOf(extremoB, capacidad);
+        conexiones = Arrays.copyOf(conexiones, capacidad);
+    }
+}
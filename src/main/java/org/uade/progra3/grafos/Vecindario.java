@@ -0,0 +1,49 @@
+package org.uade.progra3.grafos;
+
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resultado de una búsqueda acotada: solo los usuarios alcanzados (el origen incluido) con su distancia,
+ * en arreglos del tamaño del vecindario y no del grafo.
+ */
+public class Vecindario {
+
+    private final GrafoCSR grafo;
+    private final int[] vertices;
+    private final int[] distancias;
+
+    Vecindario(GrafoCSR grafo, int[] vertices, int[] distancias) {
+        this.grafo = grafo;
+        this.vertices = vertices;
+        this.distancias = distancias;
+    }
+
+    public int getCantidad() {
+        return vertices.length;
+    }
+
+    /** Índice en la foto CSR del i-ésimo usuario alcanzado. */
+    public int getVertice(int i) {
+        return vertices[i];
+    }
+
+    public Usuario getUsuario(int i) {
+        return grafo.getUsuario(vertices[i]);
+    }
+
+    public int getDistancia(int i) {
+        return distancias[i];
+    }
+
+    /** Mapa usuario -> distancia con una entrada por usuario alcanzado (los de afuera del vecindario no aparecen). */
+    public Map<Usuario, Integer> aMapa() {
+        Map<Usuario, Integer> resultado = new HashMap<>();
+        for (int i = 0; i < vertices.length; i++) {
+            resultado.put(grafo.getUsuario(vertices[i]), distancias[i]);
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,69 @@
+package org.uade.progra3.modelo;
+
+import java.util.List;
+
+/**
+ * Camino de menor peso entre dos usuarios: la distancia total, los usuarios por los que pasa (extremos incluidos)
+ * y las conexiones usadas (una menos que usuarios).
+ */
+public class CaminoMinimo {
+    private static final CaminoMinimo INEXISTENTE = new CaminoMinimo(Integer.MAX_VALUE, List.of(), List.of());
+
+    private final int distancia;
+    private final List<Usuario> usuarios;
+    private final List<Conexion> conexiones;
+
+    public CaminoMinimo(int distancia, List<Usuario> usuarios, List<Conexion> conexiones) {
+        if (!usuarios.isEmpty() && conexiones.size() != usuarios.size() - 1) {
+            throw new IllegalArgumentException("Un camino con " + usuarios.size() + " usuarios tiene "
+                    + (usuarios.size() - 1) + " conexiones");
+        }
+        this.distancia = distancia;
+        this.usuarios = List.copyOf(usuarios);
+        this.conexiones = List.copyOf(conexiones);
+    }
+
+    /** No hay camino: distancia Integer.MAX_VALUE y lista vacía. */
+    public static CaminoMinimo inexistente() {
+        return INEXISTENTE;
+    }
+
+    public boolean existe() {
+        return distancia != Integer.MAX_VALUE;
+    }
+
+    public int getDistancia() {
+        return distancia;
+    }
+
+    public List<Usuario> getUsuarios() {
+        return usuarios;
+    }
+
+    public List<Conexion> getConexiones() {
+        return conexiones;
+    }
+
+    /** Los usuarios entre los dos extremos ("se conocen a través de ..."). */
+    public List<Usuario> getIntermediarios() {
+        return usuarios.size() <= 2 ? List.of() : usuarios.subList(1, usuarios.size() - 1);
+    }
+
+    /** Cantidad de conexiones del camino. */
+    public int getSaltos() {
+        return conexiones.size();
+    }
+
+    @Override
+    public String toString() {
+        if (!existe()) {
+            return "sin camino";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Usuario usuario : usuarios) {
+            if (sb.length() > 0) sb.append(" -> ");
+            sb.append(usuario.getNombre());
+        }
+        return sb.append(" (").append(distancia).append(")").toString();
+    }
+}
@@ -0,0 +1,36 @@
+package org.uade.progra3.modelo;
+
+/** Rango en el que está la distancia entre dos usuarios, sin haberla calculado (Integer.MAX_VALUE = sin camino / sin cota). */
+public class EstimacionDistancia {
+    private final int cotaInferior;
+    private final int cotaSuperior;
+
+    public EstimacionDistancia(int cotaInferior, int cotaSuperior) {
+        this.cotaInferior = cotaInferior;
+        this.cotaSuperior = cotaSuperior;
+    }
+
+    public int getCotaInferior() {
+        return cotaInferior;
+    }
+
+    public int getCotaSuperior() {
+        return cotaSuperior;
+    }
+
+    /** Las tablas prueban que no hay camino. */
+    public boolean esInalcanzable() {
+        return cotaInferior == Integer.MAX_VALUE;
+    }
+
+    /** Las dos cotas coinciden: la estimación es la distancia exacta. */
+    public boolean esExacta() {
+        return cotaInferior == cotaSuperior;
+    }
+
+    @Override
+    public String toString() {
+        if (esInalcanzable()) return "sin camino";
+        return cotaInferior + ".." + (cotaSuperior == Integer.MAX_VALUE ? "∞" : String.valueOf(cotaSuperior));
+    }
+}
@@ -5,20 +5,36 @@ import java.util.List;
 
 public class Portada {
     private static final int TAMANIO_MAXIMO = 100;
+    private final int capacidad;
     private final List<Publicacion> publicaciones;
 
+    /** Capacidad por defecto de una portada (la que se usa si no se indica otra). */
     public static int getTamanioMaximo() {
         return TAMANIO_MAXIMO;
     }
 
     public Portada() {
+        this(TAMANIO_MAXIMO);
+    }
+
+    /** Portada con capacidad propia (ej. un diseño para celular con menos espacio que el de escritorio). */
+    public Portada(int capacidad) {
+        if (capacidad < 0) {
+            throw new IllegalArgumentException("La capacidad de la portada no puede ser negativa: " + capacidad);
+        }
+        this.capacidad = capacidad;
         this.publicaciones = new ArrayList<>();
     }
 
     public Portada(List<Publicacion> publicaciones) {
+        this.capacidad = TAMANIO_MAXIMO;
         this.publicaciones = publicaciones != null ? new ArrayList<>(publicaciones) : new ArrayList<>();
     }
 
+    public int getCapacidad() {
+        return capacidad;
+    }
+
     public List<Publicacion> getPublicaciones() {
         return publicaciones;
     }
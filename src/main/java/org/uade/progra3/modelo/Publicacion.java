@@ -1,26 +1,63 @@
 package org.uade.progra3.modelo;
 
+import java.util.Collections;
 import java.util.List;
 
 public class Publicacion implements Comparable<Publicacion> {
-    private final List<Like> likes;
-    private final List<Comentario> comentarios;
+    private final int cantidadLikes;
+    private final int cantidadComentarios;
     private final int tamanio;
+    // ponderar() se llama muchas veces en la PD: se calcula una vez al crear la publicación
+    private final int ponderacion;
+    // Detalle opcional (quién dio like, qué comentó): solo si alguien lo adjunta
+    private List<Like> likes;
+    private List<Comentario> comentarios;
 
+    /** Publicación con solo los contadores, sin un objeto por interacción. */
+    public Publicacion(int cantidadLikes, int cantidadComentarios, int tamanio) {
+        this.cantidadLikes = cantidadLikes;
+        this.cantidadComentarios = cantidadComentarios;
+        this.tamanio = tamanio;
+        this.ponderacion = cantidadComentarios * 10 + cantidadLikes * 2;
+    }
+
+    /** Publicación con el detalle de likes y comentarios; los contadores se toman del tamaño de las listas. */
     public Publicacion(List<Like> likes, List<Comentario> comentarios, int tamanio) {
+        this(likes.size(), comentarios.size(), tamanio);
         this.likes = likes;
         this.comentarios = comentarios;
-        this.tamanio = tamanio;
     }
 
     public int ponderar() {
-        return comentarios.size() * 10 + likes.size() * 2;
+        return ponderacion;
     }
 
     public int getTamanio() {
         return tamanio;
     }
 
+    public int getCantidadLikes() {
+        return cantidadLikes;
+    }
+
+    public int getCantidadComentarios() {
+        return cantidadComentarios;
+    }
+
+    /** Asocia el detalle de interacciones. No cambia los contadores (el detalle puede ser parcial). */
+    public void adjuntarDetalle(List<Like> likes, List<Comentario> comentarios) {
+        this.likes = likes;
+        this.comentarios = comentarios;
+    }
+
+    public List<Like> getLikes() {
+        return likes != null ? likes : Collections.emptyList();
+    }
+
+    public List<Comentario> getComentarios() {
+        return comentarios != null ? comentarios : Collections.emptyList();
+    }
+
     @Override
     public int compareTo(Publicacion p) {
         int valor = this.ponderar() / tamanio;
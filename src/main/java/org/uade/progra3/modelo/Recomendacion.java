@@ -0,0 +1,41 @@
+package org.uade.progra3.modelo;
+
+import java.util.List;
+
+/**
+ * Un usuario sugerido como amistad junto con su distancia (suma de pesos) al usuario que pidió la recomendación
+ * y el camino por el que se llega ("lo conocés a través de ...").
+ */
+public class Recomendacion {
+    private final CaminoMinimo camino;
+
+    /** El usuario recomendado es el último del camino. */
+    public Recomendacion(CaminoMinimo camino) {
+        if (!camino.existe()) {
+            throw new IllegalArgumentException("No se puede recomendar un usuario inalcanzable");
+        }
+        this.camino = camino;
+    }
+
+    public Usuario getUsuario() {
+        return camino.getUsuarios().get(camino.getUsuarios().size() - 1);
+    }
+
+    public int getDistancia() {
+        return camino.getDistancia();
+    }
+
+    public CaminoMinimo getCamino() {
+        return camino;
+    }
+
+    /** Usuarios entre quien pidió la recomendación y el recomendado. */
+    public List<Usuario> getIntermediarios() {
+        return camino.getIntermediarios();
+    }
+
+    @Override
+    public String toString() {
+        return getUsuario().getNombre() + " (" + getDistancia() + ")";
+    }
+}
@@ -4,24 +4,82 @@ import org.uade.progra3.modelo.CandidatoPublicaciones;
 import org.uade.progra3.modelo.Portada;
 import org.uade.progra3.modelo.Publicacion;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 
 public class PortadaDinamica {
 
+    /**
+     * Cómo se guarda la tabla de la mochila.
+     * COMPLETA: matriz (n+1) x (capacidad+1) de enteros.
+     * COMPACTA: una sola fila de enteros que se reescribe por publicación, más un bit por celda
+     * ("se incluyó o no") para reconstruir la solución. Ocupa ~32 veces menos y elige lo mismo.
+     */
+    public enum Modo { COMPLETA, COMPACTA }
+
+    private final Modo modo;
+
+    public PortadaDinamica() {
+        this(Modo.COMPLETA);
+    }
+
+    public PortadaDinamica(Modo modo) {
+        this.modo = modo;
+    }
+
     /**
      * Calcula la selección óptima y la deja en el listado de publicaciones de la portada.
      * Limpia la portada y agrega solo las publicaciones seleccionadas (orden original).
+     * Usa la capacidad propia de la portada.
      */
     public void obtenerPublicaciones(CandidatoPublicaciones feed, Portada portada) {
+        obtenerPublicaciones(feed, List.of(portada));
+    }
+
+    /**
+     * Igual que {@link #obtenerPublicaciones(CandidatoPublicaciones, Portada)} para varias portadas con
+     * distinta capacidad y las mismas candidatas. La tabla se llena una sola vez hasta la capacidad mayor:
+     * la columna c ya es el óptimo para capacidad c, así que cada portada solo agrega su reconstrucción.
+     */
+    public void obtenerPublicaciones(CandidatoPublicaciones feed, List<Portada> portadas) {
         List<Publicacion> publicaciones = feed.getListadoPublicaciones();
 
         if (publicaciones == null || publicaciones.isEmpty()) {
-            portada.getPublicaciones().clear();
+            for (Portada portada : portadas) {
+                portada.getPublicaciones().clear();
+            }
             return;
         }
 
         int cantidadPublicaciones = publicaciones.size();
-        int espacioMaximoPortada = Portada.getTamanioMaximo();
+        int espacioMaximoPortada = 0;
+        for (Portada portada : portadas) {
+            espacioMaximoPortada = Math.max(espacioMaximoPortada, portada.getCapacidad());
+        }
+
+        if (modo == Modo.COMPACTA) {
+            BitSet incluida = llenarFilaCompacta(publicaciones, espacioMaximoPortada);
+            for (Portada portada : portadas) {
+                volcarSolucionCompacta(publicaciones, incluida, espacioMaximoPortada + 1, portada);
+            }
+            return;
+        }
+
+        int[][] beneficioMaximoHasta = llenarTabla(publicaciones, espacioMaximoPortada);
+        for (Portada portada : portadas) {
+            volcarSolucionEnPortada(publicaciones,
+                beneficioMaximoHasta,
+                cantidadPublicaciones,
+                portada.getCapacidad(),
+                portada
+            );
+        }
+    }
+
+    private int[][] llenarTabla(List<Publicacion> publicaciones, int espacioMaximoPortada) {
+        int cantidadPublicaciones = publicaciones.size();
 
         // +1 filas: fila 0 = "0 publicaciones" (caso base, beneficio 0). Filas 1..n = "hasta la publicación i".
         // +1 columnas: índices 0 hasta espacioMaximoPortada (ej. capacidad 100 → columnas 0,1,...,100 = 101).
@@ -50,13 +108,7 @@ public class PortadaDinamica {
                 }
             }
         }
-
-        volcarSolucionEnPortada(publicaciones, 
-            beneficioMaximoHasta, 
-            cantidadPublicaciones, 
-            espacioMaximoPortada, 
-            portada
-        );
+        return beneficioMaximoHasta;
     }
 
     /**
@@ -78,4 +130,51 @@ public class PortadaDinamica {
             }
         }
     }
+
+    /**
+     * Misma mochila con una sola fila: beneficioMaximo[espacio] es el óptimo usando las publicaciones vistas
+     * hasta ahora. Recorriendo el espacio de mayor a menor, beneficioMaximo[espacio - tamanio] todavía tiene
+     * el valor de la fila anterior, igual que en la tabla completa. Como la fila se pisa, la decisión
+     * "incluir" de cada celda se guarda en un BitSet (fila i, columna espacio) para poder volver hacia atrás.
+     */
+    private BitSet llenarFilaCompacta(List<Publicacion> publicaciones, int espacioMaximoPortada) {
+        int cantidadPublicaciones = publicaciones.size();
+        int ancho = espacioMaximoPortada + 1;
+        int[] beneficioMaximo = new int[ancho];
+        BitSet incluida = new BitSet(cantidadPublicaciones * ancho);
+
+        for (int indicePub = 0; indicePub < cantidadPublicaciones; indicePub++) {
+            Publicacion publicacion = publicaciones.get(indicePub);
+            int beneficio = publicacion.ponderar();
+            int tamanio = publicacion.getTamanio();
+            int fila = indicePub * ancho;
+
+            for (int espacio = espacioMaximoPortada; espacio >= tamanio; espacio--) {
+                int beneficioIncluyendo = beneficioMaximo[espacio - tamanio] + beneficio;
+                // Solo si mejora estrictamente: mismo criterio de desempate que la tabla completa
+                if (beneficioIncluyendo > beneficioMaximo[espacio]) {
+                    beneficioMaximo[espacio] = beneficioIncluyendo;
+                    incluida.set(fila + espacio);
+                }
+            }
+        }
+        return incluida;
+    }
+
+    /** Reconstrucción del modo compacto: de la última publicación a la primera, siguiendo los bits marcados. */
+    private void volcarSolucionCompacta(List<Publicacion> publicaciones, BitSet incluida, int ancho, Portada portada) {
+        List<Publicacion> seleccionadas = new ArrayList<>();
+        int espacioRestante = portada.getCapacidad();
+        for (int indicePub = publicaciones.size() - 1; indicePub >= 0; indicePub--) {
+            if (incluida.get(indicePub * ancho + espacioRestante)) {
+                Publicacion publicacion = publicaciones.get(indicePub);
+                seleccionadas.add(publicacion);
+                espacioRestante -= publicacion.getTamanio();
+            }
+        }
+        Collections.reverse(seleccionadas);
+
+        portada.getPublicaciones().clear();
+        portada.getPublicaciones().addAll(seleccionadas);
+    }
 }
@@ -0,0 +1,176 @@
+package org.uade.progra3.servicio;
+
+import org.uade.progra3.grafos.DijkstraIncremental;
+import org.uade.progra3.grafos.Grafo;
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cache LRU de resultados de Dijkstra por usuario origen (arreglos de distancias por índice del grafo).
+ * Tiene dos límites: cantidad de orígenes y peso total (suma de largos de los arreglos); cuando se pasa
+ * cualquiera de los dos se descarta el origen usado hace más tiempo.
+ * Cada resultado queda asociado a la versión del grafo con la que se calculó: si el grafo cambia
+ * (carga de datos, nueva conexión) toda la cache se descarta en la siguiente consulta, salvo que quien agregó
+ * la conexión llame a {@link #repararConexion} para actualizar los resultados en lugar de perderlos.
+ */
+public class CacheDistancias {
+
+    private final int maximoEntradas;
+    private final long maximoPeso;
+    // orden de acceso: el primero es el menos usado recientemente
+    private final LinkedHashMap<Usuario, int[]> entradas;
+    private long pesoActual;
+    private long versionGrafo = -1;
+
+    private long aciertos;
+    private long fallos;
+    private long desalojos;
+    private long invalidaciones;
+    private long reparaciones;
+
+    public CacheDistancias(int maximoEntradas, long maximoPeso) {
+        if (maximoEntradas < 1 || maximoPeso < 1) {
+            throw new IllegalArgumentException("Los límites de la cache deben ser positivos");
+        }
+        this.maximoEntradas = maximoEntradas;
+        this.maximoPeso = maximoPeso;
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Devuelve las distancias desde el origen; si no están (o el grafo cambió) las calcula con la función dada.
+     * El cálculo corre fuera del monitor, así que varios fallos a la vez (ej. desde un lote en paralelo) no se
+     * esperan entre sí; el resultado solo se guarda si el grafo sigue en la versión con la que se calculó.
+     * Dos fallos simultáneos al mismo origen lo calculan dos veces y queda guardado uno solo.
+     * El arreglo devuelto es el guardado en la cache: no se debe modificar.
+     */
+    public int[] obtener(Grafo grafo, Usuario origen, Function<Usuario, int[]> calcular) {
+        long version;
+        synchronized (this) {
+            if (grafo.getVersion() != versionGrafo) {
+                if (!entradas.isEmpty()) {
+                    invalidaciones++;
+                }
+                vaciar();
+                versionGrafo = grafo.getVersion();
+            }
+
+            int[] distancias = entradas.get(origen);
+            if (distancias != null) {
+                aciertos++;
+                return distancias;
+            }
+            fallos++;
+            version = versionGrafo;
+        }
+
+        int[] distancias = calcular.apply(origen);
+
+        synchronized (this) {
+            if (versionGrafo != version || grafo.getVersion() != version) {
+                return distancias; // el grafo cambió mientras se calculaba: no se guarda
+            }
+            int[] otro = entradas.get(origen);
+            if (otro != null) {
+                return otro; // otro hilo lo calculó y guardó primero
+            }
+            if (distancias.length <= maximoPeso) {
+                entradas.put(origen, distancias);
+                pesoActual += distancias.length;
+                desalojarExcedentes();
+            }
+        }
+        return distancias;
+    }
+
+    /**
+     * Actualiza todos los resultados guardados después de agregar una conexión (ver {@link DijkstraIncremental})
+     * y los deja asociados a la versión nueva del grafo. Solo se puede si esa conexión fue el único cambio desde
+     * versionAnterior y une usuarios que ya estaban; si no, no hace nada y la próxima consulta descarta todo.
+     * Los arreglos que cambian se copian: los que ya se devolvieron con {@link #obtener} no se tocan.
+     */
+    public synchronized boolean repararConexion(Grafo grafo, long versionAnterior, Conexion nueva) {
+        if (versionGrafo != versionAnterior || grafo.getVersion() != versionAnterior + 1) {
+            return false;
+        }
+        int origen = grafo.getIndice(nueva.getOrigen());
+        int destino = grafo.getIndice(nueva.getDestino());
+        for (int[] distancias : entradas.values()) {
+            if (origen >= distancias.length || destino >= distancias.length) {
+                return false;
+            }
+        }
+        for (Map.Entry<Usuario, int[]> entrada : entradas.entrySet()) {
+            int[] distancias = entrada.getValue();
+            boolean ida = mejora(distancias, origen, destino, nueva.getPeso());
+            // en un grafo no dirigido la conexión también se puede usar de vuelta
+            boolean vuelta = !grafo.esDirigido() && mejora(distancias, destino, origen, nueva.getPeso());
+            if (ida || vuelta) {
+                int[] reparadas = distancias.clone();
+                DijkstraIncremental.reparar(grafo, reparadas, null, nueva);
+                entrada.setValue(reparadas);
+                reparaciones++;
+            }
+        }
+        versionGrafo = grafo.getVersion();
+        return true;
+    }
+
+    private static boolean mejora(int[] distancias, int origen, int destino, int peso) {
+        return distancias[origen] != Integer.MAX_VALUE && (long) distancias[origen] + peso < distancias[destino];
+    }
+
+    public synchronized void vaciar() {
+        entradas.clear();
+        pesoActual = 0;
+    }
+
+    private void desalojarExcedentes() {
+        Iterator<Map.Entry<Usuario, int[]>> it = entradas.entrySet().iterator();
+        while ((entradas.size() > maximoEntradas || pesoActual > maximoPeso) && it.hasNext()) {
+            pesoActual -= it.next().getValue().length;
+            it.remove();
+            desalojos++;
+        }
+    }
+
+    public synchronized int getCantidadEntradas() {
+        return entradas.size();
+    }
+
+    public synchronized long getPesoActual() {
+        return pesoActual;
+    }
+
+    public synchronized long getAciertos() {
+        return aciertos;
+    }
+
+    public synchronized long getFallos() {
+        return fallos;
+    }
+
+    public synchronized long getDesalojos() {
+        return desalojos;
+    }
+
+    public synchronized long getInvalidaciones() {
+        return invalidaciones;
+    }
+
+    /** Resultados actualizados por {@link #repararConexion} (los que la conexión nueva no acortaba no cuentan). */
+    public synchronized long getReparaciones() {
+        return reparaciones;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "CacheDistancias{entradas=" + entradas.size() + ", aciertos=" + aciertos + ", fallos=" + fallos
+                + ", desalojos=" + desalojos + ", invalidaciones=" + invalidaciones + ", reparaciones=" + reparaciones + "}";
+    }
+}
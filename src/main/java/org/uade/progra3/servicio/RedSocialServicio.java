@@ -1,17 +1,39 @@
 package org.uade.progra3.servicio;
 
+import org.uade.progra3.grafos.AlgoritmoCamino;
+import org.uade.progra3.grafos.AlgoritmoMST;
+import org.uade.progra3.grafos.ArbolCaminosMinimos;
+import org.uade.progra3.grafos.BoruvkaMST;
+import org.uade.progra3.grafos.BusquedaAcotada;
+import org.uade.progra3.grafos.CaminosMinimos;
+import org.uade.progra3.grafos.DijkstraBidireccional;
+import org.uade.progra3.grafos.DijkstraPorLotes;
 import org.uade.progra3.grafos.Djikstra;
+import org.uade.progra3.grafos.EspaciosDeTrabajo;
 import org.uade.progra3.grafos.Grafo;
+import org.uade.progra3.grafos.GrafoCSR;
+import org.uade.progra3.grafos.IndiceLandmarks;
+import org.uade.progra3.grafos.JerarquiaContraccion;
 import org.uade.progra3.grafos.KruskalMST;
+import org.uade.progra3.grafos.RedMinimaDinamica;
+import org.uade.progra3.modelo.CaminoMinimo;
 import org.uade.progra3.modelo.CandidatoPublicaciones;
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.EstimacionDistancia;
 import org.uade.progra3.modelo.Portada;
 import org.uade.progra3.modelo.Publicacion;
+import org.uade.progra3.modelo.Recomendacion;
 import org.uade.progra3.modelo.Usuario;
 import org.uade.progra3.negocio.PortadaDinamica;
 import org.uade.progra3.utils.DataLoader;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Orquesta los tres algoritmos del prototipo: Kruskal (red mínima), Dijkstra (recomendación)
@@ -19,15 +41,24 @@ import java.util.Map;
  */
 public class RedSocialServicio {
 
+    private static final int CANTIDAD_LANDMARKS = 8;
+
     private final Grafo grafoCompleto;
-    private Grafo redMinima;
+    private RedMinimaDinamica redMinima;
     private final DataLoader dataLoader;
     private final PortadaDinamica portadaDinamica;
     private final Portada portada;
+    private final CacheDistancias cacheDistancias;
+    private IndiceLandmarks indiceLandmarks;
+    private long versionIndiceLandmarks = -1;
+    private JerarquiaContraccion jerarquia;
+    private long versionJerarquia = -1;
 
     public RedSocialServicio() {
         this.grafoCompleto = new Grafo();
         this.dataLoader = new DataLoader(grafoCompleto);
+        // hasta 128 orígenes y 16M distancias (~64 MB) en memoria
+        this.cacheDistancias = new CacheDistancias(128, 16L << 20);
         this.portadaDinamica = new PortadaDinamica();
         this.portada = new Portada();
     }
@@ -39,6 +70,19 @@ public class RedSocialServicio {
     public void cargarDatos(String nombreRecurso) {
         dataLoader.cargarDesdeRecurso(nombreRecurso);
         redMinima = null;
+        EspaciosDeTrabajo.liberar(); // los espacios de búsqueda eran del tamaño de la red anterior
+    }
+
+    /** Carga un snapshot binario (ver {@link #guardarSnapshot(Path)}): arranque sin parsear JSON. */
+    public void cargarSnapshot(Path archivo) {
+        dataLoader.cargarDesdeSnapshot(archivo);
+        redMinima = null;
+        EspaciosDeTrabajo.liberar(); // los espacios de búsqueda eran del tamaño de la red anterior
+    }
+
+    /** Guarda los datos cargados como snapshot binario para el próximo arranque. */
+    public void guardarSnapshot(Path archivo) {
+        dataLoader.guardarSnapshot(archivo);
     }
 
     public List<Usuario> getUsuarios() {
@@ -51,17 +95,195 @@ public class RedSocialServicio {
 
     /** Ejecuta Kruskal y devuelve el grafo de la red mínima (MST). */
     public Grafo calcularRedMinima() {
-        redMinima = KruskalMST.arbolDeRecubrimientoMinimo(grafoCompleto);
-        return redMinima;
+        return calcularRedMinima(AlgoritmoMST.KRUSKAL);
     }
 
+    /**
+     * Calcula la red mínima con el algoritmo elegido (Kruskal o Borůvka paralelo). Desde ahí las conexiones que
+     * se agregan con {@link #agregarConexion} la actualizan sin recalcularla.
+     */
+    public Grafo calcularRedMinima(AlgoritmoMST algoritmo) {
+        Grafo arbol;
+        switch (algoritmo) {
+            case BORUVKA:
+                arbol = BoruvkaMST.arbolDeRecubrimientoMinimo(grafoCompleto);
+                break;
+            case KRUSKAL:
+            default:
+                arbol = KruskalMST.arbolDeRecubrimientoMinimo(grafoCompleto);
+                break;
+        }
+        redMinima = new RedMinimaDinamica(grafoCompleto, arbol);
+        return arbol;
+    }
+
+    /** La red mínima al día, o null si todavía no se calculó para los datos cargados. */
     public Grafo getRedMinima() {
-        return redMinima;
+        return redMinima == null ? null : redMinima.getRedMinima();
+    }
+
+    /**
+     * Agrega una amistad nueva (o una más cercana entre dos usuarios que ya se conocían). Si los dos usuarios ya
+     * estaban en la red, las distancias guardadas en la cache se reparan solo donde la conexión acorta caminos
+     * en lugar de descartarse. La red mínima, si ya se calculó, se actualiza reemplazando a lo sumo una conexión.
+     * Los landmarks y la jerarquía de contracción quedan desactualizados hasta volver a prepararlos.
+     */
+    public void agregarConexion(Usuario origen, Usuario destino, int peso) {
+        long versionAnterior = grafoCompleto.getVersion();
+        grafoCompleto.agregarConexion(origen, destino, peso);
+        cacheDistancias.repararConexion(grafoCompleto, versionAnterior, new Conexion(origen, destino, peso));
+        if (redMinima != null) {
+            redMinima.agregarConexion(origen, destino, peso);
+        }
     }
 
-    /** Ejecuta Dijkstra desde el usuario dado. Devuelve mapa usuario -> distancia mínima. */
+    /**
+     * Ejecuta Dijkstra desde el usuario dado. Devuelve mapa usuario -> distancia mínima.
+     * El resultado queda en cache hasta que el grafo cambie (ver {@link #getCacheDistancias()}).
+     */
     public Map<Usuario, Integer> calcularDistanciasDesde(Usuario origen) {
-        return Djikstra.calcularCaminosMinimos(grafoCompleto, origen);
+        int[] distancias = cacheDistancias.obtener(grafoCompleto, origen, o -> {
+            GrafoCSR csr = grafoCompleto.congelar();
+            return CaminosMinimos.calcularDistancias(csr, csr.getIndice(o));
+        });
+        return Djikstra.aMapa(grafoCompleto, origen, distancias);
+    }
+
+    /**
+     * Distancias solo al entorno del usuario: a lo sumo maxSaltos conexiones (amigos de amigos = 2) y maxDistancia
+     * de peso; {@link BusquedaAcotada#SIN_LIMITE} desactiva cualquiera de los dos. Los usuarios de afuera no aparecen.
+     */
+    public Map<Usuario, Integer> calcularVecindario(Usuario origen, int maxSaltos, int maxDistancia) {
+        GrafoCSR csr = grafoCompleto.congelar();
+        return BusquedaAcotada.buscar(csr, csr.getIndice(origen), maxSaltos, maxDistancia).aMapa();
+    }
+
+    /**
+     * Dijkstra desde cada usuario dado, en paralelo (pensado para precalcular recomendaciones de todos).
+     * El consumidor recibe las distancias indexadas por {@link Grafo#getIndice(Usuario)}; el arreglo se reutiliza
+     * apenas vuelve la llamada y el consumidor se invoca desde varios hilos. Los usuarios que no están en la red se saltean.
+     */
+    public void calcularDistanciasPorLotes(Collection<Usuario> origenes, BiConsumer<Usuario, int[]> consumidor) {
+        GrafoCSR csr = grafoCompleto.congelar();
+        int[] indices = origenes.stream().mapToInt(csr::getIndice).filter(indice -> indice >= 0).toArray();
+        DijkstraPorLotes.calcular(csr, indices, (origen, distancias) -> consumidor.accept(csr.getUsuario(origen), distancias));
+    }
+
+    /** Dijkstra desde el usuario guardando el árbol de caminos mínimos (distancias y por quiénes pasa cada camino). */
+    public ArbolCaminosMinimos calcularArbolDesde(Usuario origen) {
+        return Djikstra.calcularArbol(grafoCompleto, origen);
+    }
+
+    /**
+     * Recomienda hasta cantidad usuarios que el usuario todavía no tiene como conexión directa,
+     * del más cercano al más lejano (los inalcanzables no se recomiendan).
+     */
+    public List<Recomendacion> recomendarAmigos(Usuario usuario, int cantidad) {
+        GrafoCSR csr = grafoCompleto.congelar();
+        return Djikstra.recomendar(csr, csr.getIndice(usuario), cantidad);
+    }
+
+    /**
+     * Qué tan cerca está un usuario de otro: distancia y camino, sin calcular las distancias a toda la red.
+     * Usa Dijkstra bidireccional; tener preparado un índice no cambia el algoritmo.
+     */
+    public CaminoMinimo calcularCamino(Usuario origen, Usuario destino) {
+        return calcularCamino(origen, destino, AlgoritmoCamino.BIDIRECCIONAL);
+    }
+
+    /**
+     * Camino mínimo con el algoritmo elegido. Los que necesitan preproceso (landmarks, jerarquía) lo arman
+     * la primera vez y cada vez que el grafo cambió desde la anterior.
+     */
+    public CaminoMinimo calcularCamino(Usuario origen, Usuario destino, AlgoritmoCamino algoritmo) {
+        switch (algoritmo) {
+            case JERARQUIA: {
+                if (jerarquia == null || versionJerarquia != grafoCompleto.getVersion()) {
+                    prepararJerarquiaContraccion();
+                }
+                GrafoCSR csr = jerarquia.getGrafo();
+                return jerarquia.calcularCamino(csr.getIndice(origen), csr.getIndice(destino));
+            }
+            case LANDMARKS: {
+                if (!indiceLandmarksAlDia()) {
+                    prepararIndiceLandmarks(cantidadLandmarksPorDefecto());
+                }
+                GrafoCSR csr = indiceLandmarks.getGrafo();
+                return indiceLandmarks.calcularCamino(csr.getIndice(origen), csr.getIndice(destino));
+            }
+            case BIDIRECCIONAL:
+            default:
+                return DijkstraBidireccional.calcularCamino(grafoCompleto, origen, destino);
+        }
+    }
+
+    /**
+     * Rango de la distancia entre dos usuarios leído de las tablas de landmarks, sin búsqueda.
+     * Si el índice no existe o el grafo cambió desde que se armó, primero lo arma. Tener el índice no cambia
+     * el algoritmo de {@link #calcularCamino}.
+     */
+    public EstimacionDistancia estimarDistancia(Usuario origen, Usuario destino) {
+        if (!indiceLandmarksAlDia()) {
+            prepararIndiceLandmarks(cantidadLandmarksPorDefecto());
+        }
+        GrafoCSR csr = indiceLandmarks.getGrafo();
+        int a = csr.getIndice(origen);
+        int b = csr.getIndice(destino);
+        if (a < 0 || b < 0) {
+            return new EstimacionDistancia(Integer.MAX_VALUE, Integer.MAX_VALUE);
+        }
+        return new EstimacionDistancia(indiceLandmarks.cotaInferior(a, b), indiceLandmarks.cotaSuperior(a, b));
+    }
+
+    /**
+     * Preprocesa la red para consultas de camino con {@link AlgoritmoCamino#JERARQUIA}.
+     * Conviene cuando hay muchas consultas y el grafo casi no cambia: cualquier modificación la invalida.
+     */
+    public JerarquiaContraccion prepararJerarquiaContraccion() {
+        jerarquia = JerarquiaContraccion.construir(grafoCompleto.congelar());
+        versionJerarquia = grafoCompleto.getVersion();
+        return jerarquia;
+    }
+
+    // En redes chicas no puede haber más landmarks que usuarios
+    private int cantidadLandmarksPorDefecto() {
+        return Math.min(CANTIDAD_LANDMARKS, grafoCompleto.getCantidadVertices());
+    }
+
+    /** Arma el índice de landmarks (2 Dijkstra por landmark) para la red cargada. */
+    public IndiceLandmarks prepararIndiceLandmarks(int cantidad) {
+        indiceLandmarks = IndiceLandmarks.construir(grafoCompleto.congelar(), cantidad);
+        versionIndiceLandmarks = grafoCompleto.getVersion();
+        return indiceLandmarks;
+    }
+
+    public void guardarIndiceLandmarks(Path archivo) {
+        if (!indiceLandmarksAlDia()) {
+            prepararIndiceLandmarks(cantidadLandmarksPorDefecto());
+        }
+        try {
+            indiceLandmarks.guardar(archivo);
+        } catch (IOException e) {
+            throw new RuntimeException("Error al escribir el índice de landmarks: " + archivo, e);
+        }
+    }
+
+    /** Carga un índice guardado con {@link #guardarIndiceLandmarks(Path)} para la red ya cargada. */
+    public void cargarIndiceLandmarks(Path archivo) {
+        try {
+            indiceLandmarks = IndiceLandmarks.cargar(archivo, grafoCompleto.congelar());
+            versionIndiceLandmarks = grafoCompleto.getVersion();
+        } catch (IOException e) {
+            throw new RuntimeException("Error al leer el índice de landmarks: " + archivo, e);
+        }
+    }
+
+    private boolean indiceLandmarksAlDia() {
+        return indiceLandmarks != null && versionIndiceLandmarks == grafoCompleto.getVersion();
+    }
+
+    public CacheDistancias getCacheDistancias() {
+        return cacheDistancias;
     }
 
     /** Ejecuta el algoritmo de portada óptima (DP) y deja el resultado en la portada. */
@@ -70,6 +292,31 @@ public class RedSocialServicio {
         portadaDinamica.obtenerPublicaciones(candidatos, portada);
     }
 
+    /**
+     * Igual que {@link #calcularPortadaOptima()} pero con otra capacidad. Devuelve esa portada sin guardarla:
+     * {@link #getPortadaOptima()} y {@link #getCapacidadPortada()} siguen siendo los de la portada por defecto.
+     */
+    public Portada calcularPortadaOptima(int capacidad) {
+        Portada resultado = new Portada(capacidad);
+        CandidatoPublicaciones candidatos = new CandidatoPublicaciones(dataLoader.getPublicaciones());
+        portadaDinamica.obtenerPublicaciones(candidatos, resultado);
+        return resultado;
+    }
+
+    /**
+     * Calcula una portada por capacidad (ej. celular, tablet, escritorio) para las mismas candidatas,
+     * con una sola pasada de programación dinámica. Devuelve las portadas en el mismo orden.
+     */
+    public List<Portada> calcularPortadas(List<Integer> capacidades) {
+        List<Portada> portadas = new ArrayList<>();
+        for (int capacidad : capacidades) {
+            portadas.add(new Portada(capacidad));
+        }
+        CandidatoPublicaciones candidatos = new CandidatoPublicaciones(dataLoader.getPublicaciones());
+        portadaDinamica.obtenerPublicaciones(candidatos, portadas);
+        return portadas;
+    }
+
     public List<Publicacion> getPublicacionesCandidatas() {
         return dataLoader.getPublicaciones();
     }
@@ -79,6 +326,6 @@ public class RedSocialServicio {
     }
 
     public int getCapacidadPortada() {
-        return Portada.getTamanioMaximo();
+        return portada.getCapacidad();
     }
 }
@@ -1,6 +1,7 @@
 package org.uade.progra3.ui;
 
 import org.uade.progra3.grafos.Grafo;
+import org.uade.progra3.grafos.GrafoCSR;
 import org.uade.progra3.modelo.Conexion;
 import org.uade.progra3.modelo.Usuario;
 
@@ -31,6 +32,7 @@ public class GrafoDiagramPanel extends JPanel {
     private boolean modoArbol;
     private Map<Usuario, Integer> distancias;  // Dijkstra: distancia mínima por nodo
     private Usuario nodoOrigen;                // Dijkstra: nodo origen resaltado
+    private boolean distanciasParciales;       // true = los que faltan no se calcularon (no son ∞)
 
     public GrafoDiagramPanel(String titulo) {
         this.titulo = titulo;
@@ -56,6 +58,18 @@ public class GrafoDiagramPanel extends JPanel {
     public void setDistancias(Map<Usuario, Integer> distancias, Usuario origen) {
         this.distancias = distancias;
         this.nodoOrigen = origen;
+        this.distanciasParciales = false;
+        repaint();
+    }
+
+    /**
+     * Como {@link #setDistancias}, pero solo para algunos usuarios (ej. los de una búsqueda cortada antes de
+     * recorrer toda la red): los que no están en el mapa quedan con el color por defecto y sin distancia.
+     */
+    public void setDistanciasParciales(Map<Usuario, Integer> distancias, Usuario origen) {
+        this.distancias = distancias;
+        this.nodoOrigen = origen;
+        this.distanciasParciales = true;
         repaint();
     }
 
@@ -79,6 +93,15 @@ public class GrafoDiagramPanel extends JPanel {
         setGrafo(grafo, usuarios == null ? null : new ArrayList<>(usuarios));
     }
 
+    /** Dibuja una foto CSR (se convierte a Grafo: el panel solo maneja grafos chicos). */
+    public void setGrafo(GrafoCSR grafo) {
+        if (grafo == null) {
+            setGrafo(null, List.of());
+        } else {
+            setGrafo(grafo.aGrafo(), grafo.getUsuarios());
+        }
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
@@ -127,9 +150,10 @@ public class GrafoDiagramPanel extends JPanel {
             Point p = posiciones.get(u);
             if (p == null) continue;
 
+            boolean conDistancia = distancias != null && (!distanciasParciales || distancias.containsKey(u) || u.equals(nodoOrigen));
             Color fillColor = new Color(70, 130, 180); // azul por defecto
             Color borderColor = new Color(30, 64, 120);
-            if (distancias != null) {
+            if (conDistancia) {
                 if (u.equals(nodoOrigen)) {
                     fillColor = new Color(34, 139, 34);   // verde: origen
                     borderColor = new Color(20, 90, 20);
@@ -163,7 +187,7 @@ public class GrafoDiagramPanel extends JPanel {
             g2.drawString(label, p.x - nodeFm.stringWidth(label) / 2, p.y - 2);
 
             // Distancia debajo del nombre (dentro del nodo)
-            if (distancias != null) {
+            if (conDistancia) {
                 int dist = distancias.getOrDefault(u, Integer.MAX_VALUE);
                 String distLabel = u.equals(nodoOrigen) ? "0 (origen)" : (dist == Integer.MAX_VALUE ? "∞" : String.valueOf(dist));
                 g2.setFont(getFont().deriveFont(Font.BOLD, 9f));
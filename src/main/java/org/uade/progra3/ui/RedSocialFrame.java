@@ -2,6 +2,7 @@ package org.uade.progra3.ui;
 
 import org.uade.progra3.modelo.Conexion;
 import org.uade.progra3.modelo.Publicacion;
+import org.uade.progra3.modelo.Recomendacion;
 import org.uade.progra3.modelo.Usuario;
 import org.uade.progra3.servicio.RedSocialServicio;
 
@@ -9,6 +10,7 @@ import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,6 +20,8 @@ import java.util.Map;
  */
 public class RedSocialFrame extends JFrame {
 
+    private static final int CANTIDAD_RECOMENDACIONES = 5;
+
     private final RedSocialServicio servicio;
     private GrafoDiagramPanel diagramaGrafoOriginal;
     private GrafoDiagramPanel diagramaMST;
@@ -131,6 +135,9 @@ public class RedSocialFrame extends JFrame {
         JButton btnDijkstra = new JButton("Calcular distancias (Dijkstra)");
         btnDijkstra.addActionListener(e -> ejecutarDijkstra());
         top.add(btnDijkstra);
+        JButton btnRecomendar = new JButton("Recomendar amigos (top " + CANTIDAD_RECOMENDACIONES + ")");
+        btnRecomendar.addActionListener(e -> ejecutarRecomendacion());
+        top.add(btnRecomendar);
         p.add(top, BorderLayout.NORTH);
 
         // Diagrama del grafo con distancias + lista de texto
@@ -185,6 +192,47 @@ public class RedSocialFrame extends JFrame {
         }
     }
 
+    /**
+     * Los más cercanos que todavía no son amigos, con una sola búsqueda que corta al encontrarlos: el diagrama
+     * colorea solo a esos (el resto de la red no se recorrió, así que no se muestra su distancia).
+     */
+    private void ejecutarRecomendacion() {
+        Usuario origen = (Usuario) comboUsuarios.getSelectedItem();
+        if (origen == null) return;
+        try {
+            List<Recomendacion> recomendaciones = servicio.recomendarAmigos(origen, CANTIDAD_RECOMENDACIONES);
+            Map<Usuario, Integer> distancias = new HashMap<>();
+            distancias.put(origen, 0);
+            for (Recomendacion r : recomendaciones) {
+                distancias.put(r.getUsuario(), r.getDistancia());
+            }
+            diagramaDijkstra.setDistanciasParciales(distancias, origen);
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("Amigos recomendados para: ").append(origen.getNombre()).append("\n\n");
+            if (recomendaciones.isEmpty()) {
+                sb.append("  (no hay usuarios alcanzables que no sean ya conexiones directas)\n");
+            }
+            for (int i = 0; i < recomendaciones.size(); i++) {
+                Recomendacion r = recomendaciones.get(i);
+                sb.append("  ").append(i + 1).append(". ").append(r.getUsuario().getNombre())
+                        .append("  →  ").append(r.getDistancia());
+                if (!r.getIntermediarios().isEmpty()) {
+                    sb.append("  (a través de ");
+                    for (int j = 0; j < r.getIntermediarios().size(); j++) {
+                        if (j > 0) sb.append(", ");
+                        sb.append(r.getIntermediarios().get(j).getNombre());
+                    }
+                    sb.append(")");
+                }
+                sb.append("\n");
+            }
+            areaDijkstra.setText(sb.toString());
+        } catch (Exception ex) {
+            areaDijkstra.setText("Error: " + ex.getMessage());
+        }
+    }
+
     private JPanel panelPortada() {
         JPanel p = new JPanel(new BorderLayout(10, 10));
         p.setBorder(new EmptyBorder(10, 10, 10, 10));
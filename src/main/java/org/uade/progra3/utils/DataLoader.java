@@ -1,33 +1,34 @@
 package org.uade.progra3.utils;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
-import org.json.JSONTokener;
 import org.uade.progra3.modelo.Conexion;
 import org.uade.progra3.modelo.Publicacion;
 import org.uade.progra3.grafos.Grafo;
 import org.uade.progra3.modelo.Usuario;
-import org.uade.progra3.modelo.Like;
-import org.uade.progra3.modelo.Comentario;
 
 public class DataLoader {
 
     private List<Usuario> usuarios;
-    private List<Conexion> conexiones;
     private List<Publicacion> publicaciones;
     private Grafo grafo;
+    private long registrosLeidos;
+    private double registrosPorSegundo;
 
     public DataLoader(Grafo grafo) {
         this.usuarios = new ArrayList<>();
-        this.conexiones = new ArrayList<>();
         this.publicaciones = new ArrayList<>();
         this.grafo = grafo;
     }
@@ -42,84 +43,282 @@ public class DataLoader {
         if (is == null) {
             throw new RuntimeException("No se encontró el archivo: " + nombreArchivo);
         }
-        try (Reader reader = new InputStreamReader(is)) {
+        try (Reader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
             cargar(reader);
         } catch (Exception e) {
             throw new RuntimeException("Error al leer el recurso: " + nombreArchivo, e);
         }
     }
 
-    private void cargar(Reader reader) {
-        JSONObject root = new JSONObject(new JSONTokener(reader));
+    /** Igual que {@link #cargarDesdeRecurso(String)} para un archivo del disco (ej. uno generado). */
+    public void cargarDesdeArchivo(Path archivo) {
+        try (Reader reader = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            cargar(reader);
+        } catch (Exception e) {
+            throw new RuntimeException("Error al leer el archivo: " + archivo, e);
+        }
+    }
+
+    /**
+     * Carga una foto binaria escrita con {@link #guardarSnapshot(Path)}. Es la forma rápida de arrancar:
+     * no hay nada que parsear y el grafo recibe los arreglos CSR directamente.
+     * El snapshot guarda si el grafo era dirigido y tiene que coincidir con el grafo del loader.
+     */
+    public void cargarDesdeSnapshot(Path archivo) {
+        long inicio = System.nanoTime();
+        SnapshotBinario.Contenido contenido;
+        try {
+            contenido = SnapshotBinario.leer(archivo);
+        } catch (IOException e) {
+            throw new RuntimeException("Error al leer el snapshot: " + archivo, e);
+        }
+        if (contenido.getGrafo().esDirigido() != grafo.esDirigido()) {
+            throw new RuntimeException("El snapshot " + archivo + " es " + (contenido.getGrafo().esDirigido()
+                    ? "dirigido" : "no dirigido") + " y no coincide con el modo del grafo");
+        }
+        grafo.cargarFoto(contenido.getGrafo(), contenido.getUsuarios());
+        usuarios.addAll(contenido.getUsuarios());
+        publicaciones.addAll(contenido.getPublicaciones());
 
-        // Parsear usuarios
+        double segundos = Math.max(System.nanoTime() - inicio, 1) / 1e9;
+        registrosLeidos = (long) contenido.getUsuarios().size() + contenido.getGrafo().getCantidadAristas()
+                + contenido.getPublicaciones().size();
+        registrosPorSegundo = registrosLeidos / segundos;
+        System.out.println("Snapshot cargado: " + contenido.getUsuarios().size() + " usuarios, "
+                + contenido.getGrafo().getCantidadAristas() + " conexiones, "
+                + contenido.getPublicaciones().size() + " publicaciones"
+                + String.format(" en %.1f ms", segundos * 1000) + ". \n");
+    }
+
+    /** Escribe lo cargado hasta ahora (grafo, usuarios y publicaciones) como snapshot binario. */
+    public void guardarSnapshot(Path archivo) {
+        try {
+            SnapshotBinario.escribir(grafo, usuarios, publicaciones, archivo);
+        } catch (IOException e) {
+            throw new RuntimeException("Error al escribir el snapshot: " + archivo, e);
+        }
+    }
+
+    /**
+     * Lee el JSON en una sola pasada, token por token, y agrega cada usuario, conexión y publicación
+     * al grafo apenas la termina de leer. No se arma el árbol JSONObject del documento, así que la memoria
+     * extra es la de un registro a la vez, sin importar el tamaño del archivo.
+     * Si "conexiones" aparece antes que "usuarios" se guardan como pares de ids hasta conocer a los usuarios.
+     */
+    private void cargar(Reader reader) {
+        long inicio = System.nanoTime();
+        LectorJsonStreaming lector = new LectorJsonStreaming(reader);
         Map<Long, Usuario> mapaUsuarios = new HashMap<>();
-        JSONArray jsonUsuarios = root.getJSONArray("usuarios");
+        ConexionesPendientes pendientes = null;
+        boolean hayUsuarios = false;
+        boolean hayConexiones = false;
+        int cantidadUsuarios = 0;
+        int cantidadConexiones = 0;
+        int cantidadPublicaciones = 0;
 
-        for (int i = 0; i < jsonUsuarios.length(); i++) {
-            JSONObject obj = jsonUsuarios.getJSONObject(i);
-            Long id = obj.getLong("id");
-            String nombre = obj.getString("nombre");
+        lector.abrirObjeto();
+        for (String clave = lector.siguienteClave(); clave != null; clave = lector.siguienteClave()) {
+            switch (clave) {
+                case "usuarios":
+                    hayUsuarios = true;
+                    cantidadUsuarios += leerUsuarios(lector, mapaUsuarios);
+                    if (pendientes != null) {
+                        cantidadConexiones += pendientes.agregarAlGrafo(this, mapaUsuarios);
+                        pendientes = null;
+                    }
+                    break;
+                case "conexiones":
+                    hayConexiones = true;
+                    if (hayUsuarios) {
+                        cantidadConexiones += leerConexiones(lector, mapaUsuarios);
+                    } else {
+                        pendientes = ConexionesPendientes.leer(lector);
+                    }
+                    break;
+                // Publicaciones (opcional: beneficio = comentarios*10 + likes*2, tamanio)
+                case "publicaciones":
+                    cantidadPublicaciones += leerPublicaciones(lector);
+                    break;
+                default:
+                    lector.saltearValor();
+            }
+        }
+        if (!hayUsuarios || !hayConexiones) {
+            throw new RuntimeException("El JSON debe tener \"usuarios\" y \"conexiones\"");
+        }
+
+        double segundos = Math.max(System.nanoTime() - inicio, 1) / 1e9;
+        registrosLeidos = (long) cantidadUsuarios + cantidadConexiones + cantidadPublicaciones;
+        registrosPorSegundo = registrosLeidos / segundos;
+
+        System.out.println("Datos cargados: " + cantidadUsuarios + " usuarios, " + cantidadConexiones + " conexiones"
+                + (cantidadPublicaciones == 0 ? "" : ", " + cantidadPublicaciones + " publicaciones")
+                + String.format(" (%.0f registros/s)", registrosPorSegundo) + ". \n");
+    }
+
+    private int leerUsuarios(LectorJsonStreaming lector, Map<Long, Usuario> mapaUsuarios) {
+        int cantidad = 0;
+        lector.abrirArreglo();
+        while (lector.siguienteElemento()) {
+            Long id = null;
+            String nombre = null;
+            lector.abrirObjeto();
+            for (String clave = lector.siguienteClave(); clave != null; clave = lector.siguienteClave()) {
+                if (clave.equals("id")) {
+                    id = lector.leerLong();
+                } else if (clave.equals("nombre")) {
+                    nombre = lector.leerString();
+                } else {
+                    lector.saltearValor();
+                }
+            }
+            if (id == null || nombre == null) {
+                throw new RuntimeException("Usuario sin \"id\" o \"nombre\"");
+            }
             Usuario usuario = new Usuario(id, nombre);
             usuarios.add(usuario);
             grafo.agregarUsuario(usuario);
             mapaUsuarios.put(id, usuario);
+            cantidad++;
         }
+        return cantidad;
+    }
 
-        // Parsear conexiones
-        JSONArray jsonConexiones = root.getJSONArray("conexiones");
-
-        for (int i = 0; i < jsonConexiones.length(); i++) {
-            JSONObject obj = jsonConexiones.getJSONObject(i);
-            Long origenId = obj.getLong("origen");
-            Long destinoId = obj.getLong("destino");
-            int peso = obj.getInt("peso");
-
-            Usuario origen = mapaUsuarios.get(origenId);
-            Usuario destino = mapaUsuarios.get(destinoId);
+    private int leerConexiones(LectorJsonStreaming lector, Map<Long, Usuario> mapaUsuarios) {
+        int cantidad = 0;
+        lector.abrirArreglo();
+        while (lector.siguienteElemento()) {
+            long[] conexion = leerConexion(lector);
+            if (agregarConexion(mapaUsuarios, conexion[0], conexion[1], (int) conexion[2])) {
+                cantidad++;
+            }
+        }
+        return cantidad;
+    }
 
-            if (origen == null || destino == null) {
-                System.err.println("Conexión ignorada: origen=" + origenId + ", destino=" + destinoId);
-                continue;
+    // origen, destino y peso de un objeto conexión
+    private static long[] leerConexion(LectorJsonStreaming lector) {
+        long[] conexion = new long[3];
+        boolean[] presentes = new boolean[3];
+        lector.abrirObjeto();
+        for (String clave = lector.siguienteClave(); clave != null; clave = lector.siguienteClave()) {
+            int campo = clave.equals("origen") ? 0 : clave.equals("destino") ? 1 : clave.equals("peso") ? 2 : -1;
+            if (campo < 0) {
+                lector.saltearValor();
+            } else {
+                conexion[campo] = campo == 2 ? lector.leerInt() : lector.leerLong();
+                presentes[campo] = true;
             }
+        }
+        if (!presentes[0] || !presentes[1] || !presentes[2]) {
+            throw new RuntimeException("Conexión sin \"origen\", \"destino\" o \"peso\"");
+        }
+        return conexion;
+    }
+
+    private boolean agregarConexion(Map<Long, Usuario> mapaUsuarios, long origenId, long destinoId, int peso) {
+        Usuario origen = mapaUsuarios.get(origenId);
+        Usuario destino = mapaUsuarios.get(destinoId);
 
-            conexiones.add(new Conexion(origen, destino, peso));
-            grafo.agregarConexion(origen, destino, peso);
+        if (origen == null || destino == null) {
+            System.err.println("Conexión ignorada: origen=" + origenId + ", destino=" + destinoId);
+            return false;
         }
 
-        // Parsear publicaciones (opcional: beneficio = comentarios*10 + likes*2, tamanio)
-        if (root.has("publicaciones")) {
-            JSONArray jsonPublicaciones = root.getJSONArray("publicaciones");
-            for (int i = 0; i < jsonPublicaciones.length(); i++) {
-                JSONObject obj = jsonPublicaciones.getJSONObject(i);
-                int likes = obj.optInt("likes", 0);
-                int comentarios = obj.optInt("comentarios", 0);
-                int tamanio = obj.getInt("tamanio");
-                publicaciones.add(crearPublicacion(likes, comentarios, tamanio));
+        grafo.agregarConexion(origen, destino, peso);
+        return true;
+    }
+
+    private int leerPublicaciones(LectorJsonStreaming lector) {
+        int cantidad = 0;
+        lector.abrirArreglo();
+        while (lector.siguienteElemento()) {
+            int likes = 0;
+            int comentarios = 0;
+            Integer tamanio = null;
+            lector.abrirObjeto();
+            for (String clave = lector.siguienteClave(); clave != null; clave = lector.siguienteClave()) {
+                if (clave.equals("likes")) {
+                    likes = lector.leerInt();
+                } else if (clave.equals("comentarios")) {
+                    comentarios = lector.leerInt();
+                } else if (clave.equals("tamanio")) {
+                    tamanio = lector.leerInt();
+                } else {
+                    lector.saltearValor();
+                }
+            }
+            if (tamanio == null) {
+                throw new RuntimeException("Publicación sin \"tamanio\"");
             }
+            publicaciones.add(crearPublicacion(likes, comentarios, tamanio));
+            cantidad++;
         }
-
-        System.out.println("Datos cargados: " + usuarios.size() + " usuarios, " + conexiones.size() + " conexiones"
-                + (publicaciones.isEmpty() ? "" : ", " + publicaciones.size() + " publicaciones") + ". \n");
+        return cantidad;
     }
 
     private static Publicacion crearPublicacion(int cantidadLikes, int cantidadComentarios, int tamanio) {
-        List<Like> likes = new ArrayList<>();
-        for (int i = 0; i < cantidadLikes; i++) likes.add(new Like());
-        List<Comentario> comentarios = new ArrayList<>();
-        for (int i = 0; i < cantidadComentarios; i++) comentarios.add(new Comentario());
-        return new Publicacion(likes, comentarios, tamanio);
+        // Solo contadores: una publicación con 100k likes no necesita 100k objetos Like
+        return new Publicacion(cantidadLikes, cantidadComentarios, tamanio);
+    }
+
+    /** Conexiones leídas antes que los usuarios: se guardan en arreglos primitivos hasta poder resolverlas. */
+    private static class ConexionesPendientes {
+        private long[] origenes = new long[64];
+        private long[] destinos = new long[64];
+        private int[] pesos = new int[64];
+        private int cantidad;
+
+        static ConexionesPendientes leer(LectorJsonStreaming lector) {
+            ConexionesPendientes pendientes = new ConexionesPendientes();
+            lector.abrirArreglo();
+            while (lector.siguienteElemento()) {
+                long[] conexion = leerConexion(lector);
+                if (pendientes.cantidad == pendientes.pesos.length) {
+                    int nuevaCapacidad = pendientes.cantidad * 2;
+                    pendientes.origenes = Arrays.copyOf(pendientes.origenes, nuevaCapacidad);
+                    pendientes.destinos = Arrays.copyOf(pendientes.destinos, nuevaCapacidad);
+                    pendientes.pesos = Arrays.copyOf(pendientes.pesos, nuevaCapacidad);
+                }
+                pendientes.origenes[pendientes.cantidad] = conexion[0];
+                pendientes.destinos[pendientes.cantidad] = conexion[1];
+                pendientes.pesos[pendientes.cantidad] = (int) conexion[2];
+                pendientes.cantidad++;
+            }
+            return pendientes;
+        }
+
+        int agregarAlGrafo(DataLoader loader, Map<Long, Usuario> mapaUsuarios) {
+            int agregadas = 0;
+            for (int i = 0; i < cantidad; i++) {
+                if (loader.agregarConexion(mapaUsuarios, origenes[i], destinos[i], pesos[i])) {
+                    agregadas++;
+                }
+            }
+            return agregadas;
+        }
     }
 
     public List<Usuario> getUsuarios() {
         return usuarios;
     }
 
+    /** Conexiones del grafo cargado (las mismas instancias que guarda el grafo, sin copia aparte). */
     public List<Conexion> getConexiones() {
-        return conexiones;
+        return grafo.getConexiones();
     }
 
     public List<Publicacion> getPublicaciones() {
         return publicaciones;
     }
+
+    /** Usuarios + conexiones + publicaciones leídos en la última carga. */
+    public long getRegistrosLeidos() {
+        return registrosLeidos;
+    }
+
+    /** Velocidad de la última carga, en registros por segundo. */
+    public double getRegistrosPorSegundo() {
+        return registrosPorSegundo;
+    }
 }
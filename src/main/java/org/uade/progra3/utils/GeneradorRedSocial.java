@@ -0,0 +1,258 @@
+package org.uade.progra3.utils;
+
+import org.uade.progra3.grafos.Grafo;
+import org.uade.progra3.grafos.GrafoCSR;
+import org.uade.progra3.modelo.Publicacion;
+import org.uade.progra3.modelo.Usuario;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Genera redes sociales sintéticas reproducibles (misma semilla = misma red) para pruebas de escala.
+ * <ul>
+ *   <li>Barabási–Albert: cada usuario nuevo se conecta con usuarios elegidos en proporción a su grado
+ *       (pocos usuarios muy populares, grado con ley de potencias).</li>
+ *   <li>Watts–Strogatz: anillo donde cada usuario conoce a sus k vecinos de cada lado y una fracción de
+ *       esas amistades se reconecta al azar (mundo pequeño: muy agrupado y con caminos cortos).</li>
+ * </ul>
+ * Cada amistad se guarda como dos conexiones (ida y vuelta) con el mismo peso, entre 1 y pesoMaximo.
+ * Las aristas se generan en arreglos primitivos, así que 10^7 conexiones entran en pocas decenas de MB
+ * si se usa {@link RedGenerada#aGrafoCSR()} o {@link RedGenerada#escribirJson}.
+ */
+public class GeneradorRedSocial {
+
+    private final long semilla;
+    private final int pesoMaximo;
+
+    public GeneradorRedSocial(long semilla) {
+        this(semilla, 6);
+    }
+
+    public GeneradorRedSocial(long semilla, int pesoMaximo) {
+        if (pesoMaximo < 1) {
+            throw new IllegalArgumentException("El peso máximo debe ser al menos 1");
+        }
+        this.semilla = semilla;
+        this.pesoMaximo = pesoMaximo;
+    }
+
+    /**
+     * Barabási–Albert: arranca con un grupo completo de conexionesPorUsuario + 1 usuarios y agrega el resto
+     * uno por uno, cada uno con conexionesPorUsuario amistades. Total: ~usuarios * conexionesPorUsuario amistades.
+     */
+    public RedGenerada barabasiAlbert(int usuarios, int conexionesPorUsuario) {
+        if (conexionesPorUsuario < 1 || usuarios <= conexionesPorUsuario) {
+            throw new IllegalArgumentException("Se necesitan más usuarios que conexiones por usuario (y al menos 1 conexión)");
+        }
+        SplittableRandom random = new SplittableRandom(semilla);
+        int inicial = conexionesPorUsuario + 1;
+        int amistades = inicial * (inicial - 1) / 2 + (usuarios - inicial) * conexionesPorUsuario;
+        RedGenerada red = new RedGenerada(usuarios, amistades);
+
+        // Cada extremo de cada amistad aparece una vez acá: elegir una posición al azar es elegir
+        // un usuario con probabilidad proporcional a su grado (enganche preferencial).
+        int[] extremos = new int[2 * amistades];
+        int cantidadExtremos = 0;
+
+        for (int a = 0; a < inicial; a++) {
+            for (int b = a + 1; b < inicial; b++) {
+                red.agregarAmistad(a, b, peso(random));
+                extremos[cantidadExtremos++] = a;
+                extremos[cantidadExtremos++] = b;
+            }
+        }
+
+        int[] elegidos = new int[conexionesPorUsuario];
+        for (int nuevo = inicial; nuevo < usuarios; nuevo++) {
+            int cantidadElegidos = 0;
+            while (cantidadElegidos < conexionesPorUsuario) {
+                int candidato = extremos[random.nextInt(cantidadExtremos)];
+                if (!contiene(elegidos, cantidadElegidos, candidato)) {
+                    elegidos[cantidadElegidos++] = candidato;
+                }
+            }
+            for (int i = 0; i < conexionesPorUsuario; i++) {
+                red.agregarAmistad(nuevo, elegidos[i], peso(random));
+                extremos[cantidadExtremos++] = nuevo;
+                extremos[cantidadExtremos++] = elegidos[i];
+            }
+        }
+        return red;
+    }
+
+    /**
+     * Watts–Strogatz: anillo de usuarios donde cada uno se conecta con sus vecinosPorLado siguientes;
+     * con probabilidadReconexion el otro extremo se cambia por un usuario al azar (sin lazos a sí mismo;
+     * en redes grandes y ralas una amistad repetida es muy poco probable y no se filtra).
+     */
+    public RedGenerada wattsStrogatz(int usuarios, int vecinosPorLado, double probabilidadReconexion) {
+        if (vecinosPorLado < 1 || usuarios <= 2 * vecinosPorLado) {
+            throw new IllegalArgumentException("El anillo necesita más de 2 * vecinosPorLado usuarios");
+        }
+        SplittableRandom random = new SplittableRandom(semilla);
+        RedGenerada red = new RedGenerada(usuarios, usuarios * vecinosPorLado);
+        for (int u = 0; u < usuarios; u++) {
+            for (int salto = 1; salto <= vecinosPorLado; salto++) {
+                int v = (u + salto) % usuarios;
+                if (random.nextDouble() < probabilidadReconexion) {
+                    do {
+                        v = random.nextInt(usuarios);
+                    } while (v == u);
+                }
+                red.agregarAmistad(u, v, peso(random));
+            }
+        }
+        return red;
+    }
+
+    /**
+     * Publicaciones con interacciones de cola pesada (Pareto, α = 1.5): la mayoría con pocos likes
+     * y unas pocas virales. Los comentarios siguen la misma forma a menor escala. Tamaño entre 10 y 55.
+     */
+    public List<Publicacion> publicaciones(int cantidad) {
+        Random random = new Random(semilla);
+        List<Publicacion> publicaciones = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            int likes = pareto(random, 1.5, 100_000) - 1;
+            int comentarios = (pareto(random, 1.5, 100_000) - 1) / 5;
+            int tamanio = 10 + random.nextInt(46);
+            publicaciones.add(new Publicacion(likes, comentarios, tamanio));
+        }
+        return publicaciones;
+    }
+
+    // Valor entero >= 1 con P(X > x) = x^-alfa, acotado
+    private static int pareto(Random random, double alfa, int maximo) {
+        double valor = Math.pow(1.0 - random.nextDouble(), -1.0 / alfa);
+        return (int) Math.min(valor, maximo);
+    }
+
+    private int peso(SplittableRandom random) {
+        return 1 + random.nextInt(pesoMaximo);
+    }
+
+    private static boolean contiene(int[] valores, int cantidad, int buscado) {
+        for (int i = 0; i < cantidad; i++) {
+            if (valores[i] == buscado) return true;
+        }
+        return false;
+    }
+
+    /** Resultado de un generador: usuarios 0..n-1 (ids 1..n) y amistades en arreglos primitivos. */
+    public static class RedGenerada {
+        private final int cantidadUsuarios;
+        private final int[] extremoA;
+        private final int[] extremoB;
+        private final int[] pesos;
+        private int cantidadAmistades;
+
+        RedGenerada(int cantidadUsuarios, int capacidadAmistades) {
+            this.cantidadUsuarios = cantidadUsuarios;
+            this.extremoA = new int[capacidadAmistades];
+            this.extremoB = new int[capacidadAmistades];
+            this.pesos = new int[capacidadAmistades];
+        }
+
+        void agregarAmistad(int a, int b, int peso) {
+            extremoA[cantidadAmistades] = a;
+            extremoB[cantidadAmistades] = b;
+            pesos[cantidadAmistades] = peso;
+            cantidadAmistades++;
+        }
+
+        public int getCantidadUsuarios() {
+            return cantidadUsuarios;
+        }
+
+        /** Cantidad de conexiones dirigidas (dos por amistad). */
+        public int getCantidadConexiones() {
+            return 2 * cantidadAmistades;
+        }
+
+        public Usuario[] crearUsuarios() {
+            Usuario[] usuarios = new Usuario[cantidadUsuarios];
+            for (int i = 0; i < cantidadUsuarios; i++) {
+                usuarios[i] = new Usuario((long) i + 1, "Usuario-" + (i + 1));
+            }
+            return usuarios;
+        }
+
+        /** Grafo mutable con una Conexion por arista (cómodo para redes chicas y medianas). */
+        public Grafo aGrafo() {
+            Grafo grafo = new Grafo();
+            Usuario[] usuarios = crearUsuarios();
+            for (Usuario usuario : usuarios) {
+                grafo.agregarUsuario(usuario);
+            }
+            for (int i = 0; i < cantidadAmistades; i++) {
+                grafo.agregarConexion(usuarios[extremoA[i]], usuarios[extremoB[i]], pesos[i]);
+                grafo.agregarConexion(usuarios[extremoB[i]], usuarios[extremoA[i]], pesos[i]);
+            }
+            return grafo;
+        }
+
+        /** Foto CSR armada directamente desde los arreglos (conteo por origen), sin objetos por arista. */
+        public GrafoCSR aGrafoCSR() {
+            int[] inicio = new int[cantidadUsuarios + 1];
+            for (int i = 0; i < cantidadAmistades; i++) {
+                inicio[extremoA[i] + 1]++;
+                inicio[extremoB[i] + 1]++;
+            }
+            for (int v = 0; v < cantidadUsuarios; v++) {
+                inicio[v + 1] += inicio[v];
+            }
+            int[] siguiente = Arrays.copyOf(inicio, cantidadUsuarios);
+            int[] destinos = new int[inicio[cantidadUsuarios]];
+            int[] pesosCSR = new int[inicio[cantidadUsuarios]];
+            for (int i = 0; i < cantidadAmistades; i++) {
+                int ida = siguiente[extremoA[i]]++;
+                destinos[ida] = extremoB[i];
+                pesosCSR[ida] = pesos[i];
+                int vuelta = siguiente[extremoB[i]]++;
+                destinos[vuelta] = extremoA[i];
+                pesosCSR[vuelta] = pesos[i];
+            }
+            return GrafoCSR.crear(crearUsuarios(), inicio, destinos, pesosCSR, true);
+        }
+
+        /** Escribe la red (y las publicaciones dadas) en el formato JSON que lee DataLoader. */
+        public void escribirJson(Path archivo, List<Publicacion> publicaciones) throws IOException {
+            try (BufferedWriter out = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8)) {
+                out.write("{\n  \"usuarios\": [\n");
+                for (int i = 0; i < cantidadUsuarios; i++) {
+                    out.write("    { \"id\": " + (i + 1) + ", \"nombre\": \"Usuario-" + (i + 1) + "\" }");
+                    out.write(i + 1 < cantidadUsuarios ? ",\n" : "\n");
+                }
+                out.write("  ],\n  \"conexiones\": [\n");
+                for (int i = 0; i < cantidadAmistades; i++) {
+                    escribirConexion(out, extremoA[i], extremoB[i], pesos[i]);
+                    out.write(",\n");
+                    escribirConexion(out, extremoB[i], extremoA[i], pesos[i]);
+                    out.write(i + 1 < cantidadAmistades ? ",\n" : "\n");
+                }
+                out.write("  ],\n  \"publicaciones\": [\n");
+                for (int i = 0; i < publicaciones.size(); i++) {
+                    Publicacion publicacion = publicaciones.get(i);
+                    out.write("    { \"likes\": " + publicacion.getCantidadLikes()
+                            + ", \"comentarios\": " + publicacion.getCantidadComentarios()
+                            + ", \"tamanio\": " + publicacion.getTamanio() + " }");
+                    out.write(i + 1 < publicaciones.size() ? ",\n" : "\n");
+                }
+                out.write("  ]\n}\n");
+            }
+        }
+
+        private static void escribirConexion(BufferedWriter out, int origen, int destino, int peso) throws IOException {
+            out.write("    { \"origen\": " + (origen + 1) + ", \"destino\": " + (destino + 1) + ", \"peso\": " + peso + " }");
+        }
+    }
+}
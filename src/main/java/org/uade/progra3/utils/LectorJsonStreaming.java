@@ -0,0 +1,163 @@
+package org.uade.progra3.utils;
+
+import org.json.JSONException;
+import org.json.JSONTokener;
+
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Lector JSON de a un token por vez sobre {@link JSONTokener}. A diferencia de new JSONObject(tokener)
+ * no arma el árbol del documento: quien lo usa recorre objetos y arreglos y lee cada valor primitivo
+ * en el momento, así la memoria no depende del tamaño del archivo.
+ * Igual que JSONObject exige la ',' entre claves y entre elementos: cada objeto o arreglo abierto recuerda
+ * si ya leyó su primer elemento.
+ */
+class LectorJsonStreaming {
+
+    private final JSONTokener tokener;
+    // Por cada objeto o arreglo abierto (el último arriba): true hasta leer su primera clave o elemento
+    private boolean[] primero = new boolean[8];
+    private int profundidad;
+
+    LectorJsonStreaming(Reader reader) {
+        this.tokener = new JSONTokener(reader);
+    }
+
+    void abrirObjeto() {
+        esperar('{');
+        entrar();
+    }
+
+    void abrirArreglo() {
+        esperar('[');
+        entrar();
+    }
+
+    /**
+     * Siguiente clave del objeto abierto (ya consume los ':'), o null si el objeto terminó.
+     */
+    String siguienteClave() {
+        char c = tokener.nextClean();
+        if (c == '}') {
+            salir();
+            return null;
+        }
+        if (!primeroDelNivel()) {
+            if (c != ',') {
+                throw tokener.syntaxError("Se esperaba ',' o '}'");
+            }
+            c = tokener.nextClean();
+        }
+        if (c != '"') {
+            throw tokener.syntaxError("Se esperaba una clave entre comillas");
+        }
+        String clave = tokener.nextString('"');
+        esperar(':');
+        return clave;
+    }
+
+    /** true si el arreglo abierto tiene otro elemento (y deja el lector parado en él), false si terminó. */
+    boolean siguienteElemento() {
+        char c = tokener.nextClean();
+        if (c == ']') {
+            salir();
+            return false;
+        }
+        if (!primeroDelNivel()) {
+            if (c != ',') {
+                throw tokener.syntaxError("Se esperaba ',' o ']'");
+            }
+            c = tokener.nextClean();
+            if (c == ']') {
+                throw tokener.syntaxError("Se esperaba un elemento después de ','");
+            }
+        }
+        tokener.back();
+        return true;
+    }
+
+    String leerString() {
+        char c = tokener.nextClean();
+        if (c == '"') {
+            return tokener.nextString('"');
+        }
+        tokener.back();
+        return String.valueOf(leerPrimitivo());
+    }
+
+    long leerLong() {
+        Object valor = leerPrimitivo();
+        if (valor instanceof Number) {
+            return ((Number) valor).longValue();
+        }
+        try {
+            return Long.parseLong(String.valueOf(valor));
+        } catch (NumberFormatException e) {
+            throw tokener.syntaxError("Se esperaba un número y llegó: " + valor);
+        }
+    }
+
+    int leerInt() {
+        return Math.toIntExact(leerLong());
+    }
+
+    /** Descarta el valor que sigue, sea primitivo, objeto o arreglo, sin construirlo. */
+    void saltearValor() {
+        char c = tokener.nextClean();
+        if (c == '{') {
+            entrar();
+            while (siguienteClave() != null) {
+                saltearValor();
+            }
+        } else if (c == '[') {
+            entrar();
+            while (siguienteElemento()) {
+                saltearValor();
+            }
+        } else if (c == '"') {
+            tokener.nextString('"');
+        } else {
+            tokener.back();
+            leerPrimitivo();
+        }
+    }
+
+    private Object leerPrimitivo() {
+        char c = tokener.nextClean();
+        tokener.back();
+        if (c == '{' || c == '[') {
+            throw tokener.syntaxError("Se esperaba un valor simple");
+        }
+        try {
+            return tokener.nextValue();
+        } catch (JSONException e) {
+            throw tokener.syntaxError("Valor inválido: " + e.getMessage());
+        }
+    }
+
+    private void entrar() {
+        if (profundidad == primero.length) {
+            primero = Arrays.copyOf(primero, 2 * profundidad);
+        }
+        primero[profundidad++] = true;
+    }
+
+    private void salir() {
+        profundidad--;
+    }
+
+    // true si todavía no se leyó nada en el objeto o arreglo abierto; desde ahora deja de serlo
+    private boolean primeroDelNivel() {
+        boolean esPrimero = primero[profundidad - 1];
+        primero[profundidad - 1] = false;
+        return esPrimero;
+    }
+
+    private void esperar(char esperado) {
+        char c = tokener.nextClean();
+        if (c != esperado) {
+            throw tokener.syntaxError("Se esperaba '" + esperado + "'");
+        }
+    }
+}
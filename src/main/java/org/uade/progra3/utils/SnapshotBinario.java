@@ -0,0 +1,213 @@
+package org.uade.progra3.utils;
+
+import org.uade.progra3.grafos.Grafo;
+import org.uade.progra3.grafos.GrafoCSR;
+import org.uade.progra3.modelo.Publicacion;
+import org.uade.progra3.modelo.Usuario;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Foto binaria de una red social cargada, para arrancar sin volver a parsear JSON.
+ *
+ * Formato (big-endian):
+ * <pre>
+ * int  MAGIA, int VERSION
+ * int  dirigido (1 = dirigido, 0 = no dirigido: el CSR trae las dos direcciones de cada amistad)
+ * int  n (vértices), int m (aristas), int u (usuarios), int p (publicaciones)
+ * n x  (long id, int largo, byte[largo] nombre UTF-8)
+ * u x  int índice de vértice        (la lista de usuarios en su orden original)
+ * (n+1) x int inicio, m x int destino, m x int peso   (el CSR tal cual)
+ * p x  (int likes, int comentarios, int tamanio)
+ * </pre>
+ * Los archivos de la versión 1 no tienen el campo dirigido y se leen como dirigidos.
+ * La lectura mapea el archivo en memoria y copia los arreglos del CSR en bloque, sin crear un objeto por arista.
+ */
+public class SnapshotBinario {
+
+    private static final int MAGIA = 0x52534731; // "RSG1"
+    private static final int VERSION = 2;
+    private static final int VERSION_SIN_MODO = 1;
+
+    /** Lo que se recupera de un snapshot. */
+    public static class Contenido {
+        private final GrafoCSR grafo;
+        private final List<Usuario> usuarios;
+        private final List<Publicacion> publicaciones;
+
+        Contenido(GrafoCSR grafo, List<Usuario> usuarios, List<Publicacion> publicaciones) {
+            this.grafo = grafo;
+            this.usuarios = usuarios;
+            this.publicaciones = publicaciones;
+        }
+
+        public GrafoCSR getGrafo() {
+            return grafo;
+        }
+
+        public List<Usuario> getUsuarios() {
+            return usuarios;
+        }
+
+        public List<Publicacion> getPublicaciones() {
+            return publicaciones;
+        }
+    }
+
+    public static void escribir(Grafo grafo, List<Usuario> usuarios, List<Publicacion> publicaciones, Path archivo)
+            throws IOException {
+        GrafoCSR csr = grafo.congelar();
+        int n = csr.getCantidadVertices();
+        int m = csr.getCantidadAristas();
+
+        try (OutputStream os = Files.newOutputStream(archivo);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os, 1 << 16))) {
+            out.writeInt(MAGIA);
+            out.writeInt(VERSION);
+            out.writeInt(csr.esDirigido() ? 1 : 0);
+            out.writeInt(n);
+            out.writeInt(m);
+            out.writeInt(usuarios.size());
+            out.writeInt(publicaciones.size());
+
+            for (int v = 0; v < n; v++) {
+                Usuario usuario = csr.getUsuario(v);
+                byte[] nombre = usuario.getNombre().getBytes(StandardCharsets.UTF_8);
+                out.writeLong(usuario.getId());
+                out.writeInt(nombre.length);
+                out.write(nombre);
+            }
+            for (Usuario usuario : usuarios) {
+                out.writeInt(csr.getIndice(usuario));
+            }
+
+            for (int v = 0; v < n; v++) {
+                out.writeInt(csr.inicioAdyacentes(v));
+            }
+            out.writeInt(m);
+            for (int arista = 0; arista < m; arista++) {
+                out.writeInt(csr.getDestino(arista));
+            }
+            for (int arista = 0; arista < m; arista++) {
+                out.writeInt(csr.getPeso(arista));
+            }
+
+            for (Publicacion publicacion : publicaciones) {
+                out.writeInt(publicacion.getCantidadLikes());
+                out.writeInt(publicacion.getCantidadComentarios());
+                out.writeInt(publicacion.getTamanio());
+            }
+        }
+    }
+
+    /**
+     * Lee un snapshot escrito con {@link #escribir}. Todo lo que no cierra (archivo truncado, cantidades negativas
+     * o que no entran en lo que queda del archivo, índices fuera de rango, un CSR mal formado) es IOException.
+     */
+    public static Contenido leer(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            if (canal.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot de más de 2 GB: no se puede mapear en un solo bloque");
+            }
+            MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+
+            if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != MAGIA) {
+                throw new IOException("No es un snapshot de red social: " + archivo);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION && version != VERSION_SIN_MODO) {
+                throw new IOException("Versión de snapshot no soportada: " + version);
+            }
+            boolean dirigido = true;
+            if (version == VERSION) {
+                requerir(buffer, Integer.BYTES);
+                int modo = buffer.getInt();
+                if (modo != 0 && modo != 1) {
+                    throw new IOException("Snapshot corrupto: modo " + modo);
+                }
+                dirigido = modo == 1;
+            }
+            requerir(buffer, 4L * Integer.BYTES);
+            int n = buffer.getInt();
+            int m = buffer.getInt();
+            int u = buffer.getInt();
+            int p = buffer.getInt();
+            if (n < 0 || m < 0 || u < 0 || p < 0) {
+                throw new IOException("Snapshot corrupto: cantidades negativas");
+            }
+            // lo mínimo que ocupa el resto (nombres vacíos): así ninguna cantidad reserva más de lo que hay
+            requerir(buffer, n * (long) (Long.BYTES + Integer.BYTES) + (u + n + 1L + 2L * m) * Integer.BYTES
+                    + p * 3L * Integer.BYTES);
+
+            Usuario[] vertices = new Usuario[n];
+            byte[] nombre = new byte[64];
+            for (int v = 0; v < n; v++) {
+                requerir(buffer, Long.BYTES + Integer.BYTES);
+                long id = buffer.getLong();
+                int largo = buffer.getInt();
+                if (largo < 0) {
+                    throw new IOException("Snapshot corrupto: nombre de largo " + largo);
+                }
+                requerir(buffer, largo);
+                if (largo > nombre.length) {
+                    nombre = new byte[largo];
+                }
+                buffer.get(nombre, 0, largo);
+                vertices[v] = new Usuario(id, new String(nombre, 0, largo, StandardCharsets.UTF_8));
+            }
+            requerir(buffer, (u + n + 1L + 2L * m) * Integer.BYTES + p * 3L * Integer.BYTES);
+            List<Usuario> usuarios = new ArrayList<>(u);
+            for (int i = 0; i < u; i++) {
+                int indice = buffer.getInt();
+                if (indice < 0 || indice >= n) {
+                    throw new IOException("Snapshot corrupto: usuario con índice " + indice);
+                }
+                usuarios.add(vertices[indice]);
+            }
+
+            // Arreglos del CSR: copia en bloque desde la vista de enteros del archivo mapeado
+            int[] inicio = leerEnteros(buffer, n + 1);
+            int[] destinos = leerEnteros(buffer, m);
+            int[] pesos = leerEnteros(buffer, m);
+            List<Publicacion> publicaciones = new ArrayList<>(p);
+            for (int i = 0; i < p; i++) {
+                int likes = buffer.getInt();
+                int comentarios = buffer.getInt();
+                int tamanio = buffer.getInt();
+                publicaciones.add(new Publicacion(likes, comentarios, tamanio));
+            }
+
+            GrafoCSR grafo;
+            try {
+                grafo = GrafoCSR.crear(vertices, inicio, destinos, pesos, dirigido);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Snapshot corrupto: " + e.getMessage(), e);
+            }
+            return new Contenido(grafo, usuarios, publicaciones);
+        }
+    }
+
+    private static void requerir(MappedByteBuffer buffer, long bytes) throws IOException {
+        if (bytes > buffer.remaining()) {
+            throw new IOException("Snapshot truncado: faltan " + (bytes - buffer.remaining()) + " bytes");
+        }
+    }
+
+    private static int[] leerEnteros(MappedByteBuffer buffer, int cantidad) {
+        int[] enteros = new int[cantidad];
+        buffer.asIntBuffer().get(enteros);
+        buffer.position(buffer.position() + cantidad * Integer.BYTES);
+        return enteros;
+    }
+}
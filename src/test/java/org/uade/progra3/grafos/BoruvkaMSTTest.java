@@ -0,0 +1,139 @@
+package org.uade.progra3.grafos;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Borůvka debe dar el mismo peso total que Kruskal. Se usan los mismos grafos que en KruskalMSTTest
+ * y uno aleatorio lo bastante grande como para que la búsqueda se reparta entre varias tareas.
+ */
+@DisplayName("BoruvkaMST")
+class BoruvkaMSTTest {
+
+    private Grafo grafo;
+    private Usuario a, b, c, d;
+
+    @BeforeEach
+    void setUp() {
+        grafo = new Grafo();
+        a = new Usuario(1L, "A");
+        b = new Usuario(2L, "B");
+        c = new Usuario(3L, "C");
+        d = new Usuario(4L, "D");
+    }
+
+    private static int pesoTotal(Grafo g) {
+        return g.getConexiones().stream().mapToInt(Conexion::getPeso).sum();
+    }
+
+    private void conexionNoDirigida(Usuario x, Usuario y, int peso) {
+        grafo.agregarConexion(x, y, peso);
+        grafo.agregarConexion(y, x, peso);
+    }
+
+    @Test
+    @DisplayName("grafo de 4 nodos: mismo MST de peso 6 que Kruskal")
+    void grafo4Nodos() {
+        grafo.agregarUsuario(a);
+        grafo.agregarUsuario(b);
+        grafo.agregarUsuario(c);
+        grafo.agregarUsuario(d);
+        conexionNoDirigida(a, b, 1);
+        conexionNoDirigida(b, c, 2);
+        conexionNoDirigida(c, d, 3);
+        conexionNoDirigida(a, d, 4);
+
+        Grafo mst = BoruvkaMST.arbolDeRecubrimientoMinimo(grafo);
+        assertEquals(3, mst.getConexiones().size());
+        assertEquals(6, pesoTotal(mst));
+        assertEquals(pesoTotal(KruskalMST.arbolDeRecubrimientoMinimo(grafo)), pesoTotal(mst));
+        assertEquals(4, mst.getUsuarios().size());
+    }
+
+    @Test
+    @DisplayName("evita ciclos y elige la arista más liviana")
+    void eligeAristaMasLiviana() {
+        grafo.agregarUsuario(a);
+        grafo.agregarUsuario(b);
+        grafo.agregarUsuario(c);
+        conexionNoDirigida(a, b, 1);
+        conexionNoDirigida(b, c, 2);
+        conexionNoDirigida(a, c, 100);
+
+        Grafo mst = BoruvkaMST.arbolDeRecubrimientoMinimo(grafo);
+        assertEquals(2, mst.getConexiones().size());
+        assertEquals(3, pesoTotal(mst));
+    }
+
+    @Test
+    @DisplayName("pesos iguales en todas las aristas: sigue siendo un árbol (n-1 aristas)")
+    void pesosIguales() {
+        grafo.agregarUsuario(a);
+        grafo.agregarUsuario(b);
+        grafo.agregarUsuario(c);
+        grafo.agregarUsuario(d);
+        conexionNoDirigida(a, b, 1);
+        conexionNoDirigida(b, c, 1);
+        conexionNoDirigida(c, d, 1);
+        conexionNoDirigida(d, a, 1);
+        conexionNoDirigida(a, c, 1);
+
+        Grafo mst = BoruvkaMST.arbolDeRecubrimientoMinimo(grafo);
+        assertEquals(3, mst.getConexiones().size());
+        assertEquals(3, pesoTotal(mst));
+    }
+
+    @Test
+    @DisplayName("un solo nodo y grafo no conexo: igual que Kruskal")
+    void unNodoYNoConexo() {
+        grafo.agregarUsuario(a);
+        assertTrue(BoruvkaMST.arbolDeRecubrimientoMinimo(grafo).getConexiones().isEmpty());
+
+        grafo.agregarUsuario(b);
+        grafo.agregarUsuario(c);
+        grafo.agregarUsuario(d);
+        conexionNoDirigida(a, b, 5);
+        conexionNoDirigida(c, d, 2);
+        Grafo bosque = BoruvkaMST.arbolDeRecubrimientoMinimo(grafo);
+        assertEquals(2, bosque.getConexiones().size());
+        assertEquals(7, pesoTotal(bosque));
+    }
+
+    @Test
+    @DisplayName("grafo aleatorio grande: mismo peso total que Kruskal con varios hilos")
+    void grafoAleatorioGrande() {
+        Random random = new Random(42);
+        int n = 2_000;
+        Usuario[] usuarios = new Usuario[n];
+        for (int i = 0; i < n; i++) {
+            usuarios[i] = new Usuario((long) i, "U" + i);
+            grafo.agregarUsuario(usuarios[i]);
+        }
+        for (int i = 0; i < 20_000; i++) {
+            Usuario x = usuarios[random.nextInt(n)];
+            Usuario y = usuarios[random.nextInt(n)];
+            if (!x.equals(y)) {
+                conexionNoDirigida(x, y, 1 + random.nextInt(50));
+            }
+        }
+
+        Grafo kruskal = KruskalMST.arbolDeRecubrimientoMinimo(grafo);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Grafo boruvka = BoruvkaMST.arbolDeRecubrimientoMinimo(grafo.congelar(), pool);
+            assertEquals(kruskal.getConexiones().size(), boruvka.getConexiones().size());
+            assertEquals(pesoTotal(kruskal), pesoTotal(boruvka));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.uade.progra3.grafos;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uade.progra3.modelo.Usuario;
+import org.uade.progra3.utils.GeneradorRedSocial;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("BusquedaAcotada")
+class BusquedaAcotadaTest {
+
+    private Grafo grafo;
+    private Usuario a, b, c, d;
+
+    @BeforeEach
+    void setUp() {
+        grafo = new Grafo();
+        a = new Usuario(1L, "A");
+        b = new Usuario(2L, "B");
+        c = new Usuario(3L, "C");
+        d = new Usuario(4L, "D");
+        grafo.agregarUsuario(a);
+        grafo.agregarUsuario(b);
+        grafo.agregarUsuario(c);
+        grafo.agregarUsuario(d);
+        // A --1--> B --1--> C --1--> D, atajo A --10--> C
+        grafo.agregarConexion(a, b, 1);
+        grafo.agregarConexion(b, c, 1);
+        grafo.agregarConexion(c, d, 1);
+        grafo.agregarConexion(a, c, 10);
+    }
+
+    private Map<Usuario, Integer> buscar(Usuario origen, int maxSaltos, int maxDistancia) {
+        GrafoCSR csr = grafo.congelar();
+        return BusquedaAcotada.buscar(csr, csr.getIndice(origen), maxSaltos, maxDistancia).aMapa();
+    }
+
+    @Test
+    @DisplayName("con un salto solo aparecen las conexiones directas")
+    void unSalto() {
+        assertEquals(Map.of(a, 0, b, 1, c, 10), buscar(a, 1, BusquedaAcotada.SIN_LIMITE));
+    }
+
+    @Test
+    @DisplayName("con dos saltos la distancia es la mejor entre caminos de hasta dos conexiones")
+    void dosSaltos() {
+        assertEquals(Map.of(a, 0, b, 1, c, 2, d, 11), buscar(a, 2, BusquedaAcotada.SIN_LIMITE));
+        assertEquals(Map.of(a, 0, b, 1, c, 2, d, 3), buscar(a, 3, BusquedaAcotada.SIN_LIMITE));
+    }
+
+    @Test
+    @DisplayName("límite de distancia sin límite de saltos")
+    void soloDistancia() {
+        assertEquals(Map.of(a, 0, b, 1, c, 2), buscar(a, BusquedaAcotada.SIN_LIMITE, 2));
+        assertEquals(Map.of(a, 0), buscar(a, BusquedaAcotada.SIN_LIMITE, 0));
+    }
+
+    @Test
+    @DisplayName("los dos límites a la vez")
+    void ambosLimites() {
+        assertEquals(Map.of(a, 0, b, 1, c, 10), buscar(a, 1, 10));
+        assertEquals(Map.of(a, 0, b, 1), buscar(a, 1, 5));
+    }
+
+    @Test
+    @DisplayName("origen desconocido o límites negativos")
+    void casosBorde() {
+        assertEquals(Map.of(), buscar(new Usuario(9L, "X"), 2, 5));
+        GrafoCSR csr = grafo.congelar();
+        assertThrows(IllegalArgumentException.class, () -> BusquedaAcotada.buscar(csr, 0, -1, 5));
+    }
+
+    @Test
+    @DisplayName("coincide con Bellman-Ford de k rondas completas y con Dijkstra filtrado")
+    void coincideConReferencia() {
+        GrafoCSR red = new GeneradorRedSocial(21).wattsStrogatz(600, 2, 0.2).aGrafoCSR();
+        for (int origen = 0; origen < red.getCantidadVertices(); origen += 97) {
+            for (int saltos = 0; saltos <= 4; saltos++) {
+                assertEquals(bellmanFord(red, origen, saltos, 12), aIndices(BusquedaAcotada.buscar(red, origen, saltos, 12)));
+            }
+            int[] completas = Djikstra.calcularDistancias(red, origen);
+            Map<Integer, Integer> filtradas = new HashMap<>();
+            for (int v = 0; v < completas.length; v++) {
+                if (completas[v] <= 9) filtradas.put(v, completas[v]);
+            }
+            assertEquals(filtradas, aIndices(BusquedaAcotada.buscar(red, origen, BusquedaAcotada.SIN_LIMITE, 9)));
+        }
+    }
+
+    private static Map<Integer, Integer> aIndices(Vecindario vecindario) {
+        Map<Integer, Integer> resultado = new HashMap<>();
+        for (int i = 0; i < vecindario.getCantidad(); i++) {
+            resultado.put(vecindario.getVertice(i), vecindario.getDistancia(i));
+        }
+        return resultado;
+    }
+
+    // Referencia: k rondas de Bellman-Ford sobre todas las aristas, cada una a partir de la anterior
+    private static Map<Integer, Integer> bellmanFord(GrafoCSR grafo, int origen, int rondas, int maxDistancia) {
+        int[] distancia = new int[grafo.getCantidadVertices()];
+        Arrays.fill(distancia, Integer.MAX_VALUE);
+        distancia[origen] = 0;
+        for (int r = 0; r < rondas; r++) {
+            int[] anterior = distancia.clone();
+            for (int v = 0; v < distancia.length; v++) {
+                if (anterior[v] == Integer.MAX_VALUE) continue;
+                for (int arista = grafo.inicioAdyacentes(v); arista < grafo.finAdyacentes(v); arista++) {
+                    int nueva = anterior[v] + grafo.getPeso(arista);
+                    if (nueva <= maxDistancia && nueva < distancia[grafo.getDestino(arista)]) {
+                        distancia[grafo.getDestino(arista)] = nueva;
+                    }
+                }
+            }
+        }
+        Map<Integer, Integer> resultado = new HashMap<>();
+        for (int v = 0; v < distancia.length; v++) {
+            if (distancia[v] != Integer.MAX_VALUE) resultado.put(v, distancia[v]);
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,74 @@
+package org.uade.progra3.grafos;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uade.progra3.modelo.Usuario;
+import org.uade.progra3.utils.GeneradorRedSocial;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("DeltaStepping")
+class DeltaSteppingTest {
+
+    @Test
+    @DisplayName("mismas distancias que Dijkstra para distintos anchos de balde")
+    void coincideConDijkstra() {
+        GrafoCSR grafo = new GeneradorRedSocial(3, 20).wattsStrogatz(2_000, 3, 0.1).aGrafoCSR();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int delta : new int[] {1, 3, DeltaStepping.deltaSugerido(grafo), 20, 1000}) {
+                for (int origen = 0; origen < grafo.getCantidadVertices(); origen += 397) {
+                    assertArrayEquals(Djikstra.calcularDistancias(grafo, origen),
+                            DeltaStepping.calcularDistancias(grafo, origen, delta, pool), "delta=" + delta);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("grafo dirigido con inalcanzables y conexiones repetidas")
+    void dirigidoConInalcanzables() {
+        Random random = new Random(5);
+        Grafo grafo = new Grafo();
+        Usuario[] usuarios = new Usuario[500];
+        for (int i = 0; i < usuarios.length; i++) {
+            usuarios[i] = new Usuario((long) i, "U" + i);
+            grafo.agregarUsuario(usuarios[i]);
+        }
+        for (int i = 0; i < 900; i++) {
+            grafo.agregarConexion(usuarios[random.nextInt(500)], usuarios[random.nextInt(500)], random.nextInt(7));
+        }
+        GrafoCSR csr = grafo.congelar();
+        for (int origen = 0; origen < 500; origen += 49) {
+            assertArrayEquals(Djikstra.calcularDistancias(csr, origen), DeltaStepping.calcularDistancias(csr, origen));
+        }
+    }
+
+    @Test
+    @DisplayName("origen desconocido y delta inválido")
+    void casosBorde() {
+        GrafoCSR grafo = new GeneradorRedSocial(1).barabasiAlbert(50, 2).aGrafoCSR();
+        for (int d : DeltaStepping.calcularDistancias(grafo, -1)) {
+            assertEquals(Integer.MAX_VALUE, d);
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> DeltaStepping.calcularDistancias(grafo, 0, 0, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    @DisplayName("el selector no elige delta-stepping; se usa solo si se pide")
+    void selector() {
+        GrafoCSR grafo = new GeneradorRedSocial(1).barabasiAlbert(50, 2).aGrafoCSR();
+        assertNotEquals(AlgoritmoCaminosMinimos.DELTA_STEPPING, CaminosMinimos.elegir(grafo));
+        assertArrayEquals(Djikstra.calcularDistancias(grafo, 7),
+                CaminosMinimos.calcularDistancias(grafo, 7, AlgoritmoCaminosMinimos.DELTA_STEPPING));
+    }
+}
@@ -0,0 +1,113 @@
+package org.uade.progra3.grafos;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uade.progra3.modelo.CaminoMinimo;
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("DijkstraBidireccional")
+class DijkstraBidireccionalTest {
+
+    private Grafo grafo;
+    private Usuario a, b, c, d;
+
+    @BeforeEach
+    void setUp() {
+        grafo = new Grafo();
+        a = new Usuario(1L, "A");
+        b = new Usuario(2L, "B");
+        c = new Usuario(3L, "C");
+        d = new Usuario(4L, "D");
+        grafo.agregarUsuario(a);
+        grafo.agregarUsuario(b);
+        grafo.agregarUsuario(c);
+        grafo.agregarUsuario(d);
+        // A --1--> B --2--> C --3--> D, atajo A --4--> D
+        grafo.agregarConexion(a, b, 1);
+        grafo.agregarConexion(b, c, 2);
+        grafo.agregarConexion(c, d, 3);
+        grafo.agregarConexion(a, d, 4);
+    }
+
+    @Test
+    @DisplayName("distancia y camino entre dos usuarios")
+    void distanciaYCamino() {
+        CaminoMinimo camino = DijkstraBidireccional.calcularCamino(grafo, a, c);
+        assertEquals(3, camino.getDistancia());
+        assertEquals(List.of(a, b, c), camino.getUsuarios());
+        assertEquals(c, camino.getConexiones().get(1).getDestino());
+
+        CaminoMinimo atajo = DijkstraBidireccional.calcularCamino(grafo, a, d);
+        assertEquals(4, atajo.getDistancia());
+        assertEquals(List.of(a, d), atajo.getUsuarios());
+    }
+
+    @Test
+    @DisplayName("respeta el sentido de las conexiones")
+    void dirigido() {
+        assertFalse(DijkstraBidireccional.calcularCamino(grafo, d, a).existe());
+        assertEquals(5, DijkstraBidireccional.calcularCamino(grafo, b, d).getDistancia());
+    }
+
+    @Test
+    @DisplayName("mismo usuario o usuario desconocido")
+    void casosBorde() {
+        CaminoMinimo mismo = DijkstraBidireccional.calcularCamino(grafo, b, b);
+        assertEquals(0, mismo.getDistancia());
+        assertEquals(List.of(b), mismo.getUsuarios());
+        assertFalse(DijkstraBidireccional.calcularCamino(grafo, a, new Usuario(9L, "X")).existe());
+    }
+
+    @Test
+    @DisplayName("coincide con Dijkstra en un grafo dirigido aleatorio")
+    void coincideConDijkstra() {
+        Random random = new Random(7);
+        Grafo aleatorio = new Grafo();
+        Usuario[] usuarios = new Usuario[200];
+        for (int i = 0; i < usuarios.length; i++) {
+            usuarios[i] = new Usuario((long) i, "U" + i);
+            aleatorio.agregarUsuario(usuarios[i]);
+        }
+        for (int i = 0; i < 800; i++) {
+            aleatorio.agregarConexion(usuarios[random.nextInt(200)], usuarios[random.nextInt(200)], 1 + random.nextInt(6));
+        }
+        GrafoCSR csr = aleatorio.congelar();
+
+        for (int origen = 0; origen < 200; origen += 17) {
+            int[] distancias = Djikstra.calcularDistancias(csr, origen);
+            for (int destino = 0; destino < 200; destino++) {
+                CaminoMinimo camino = DijkstraBidireccional.calcularCamino(csr, origen, destino);
+                assertEquals(distancias[destino], camino.getDistancia());
+                if (camino.existe()) {
+                    assertEquals(usuarios[origen], camino.getUsuarios().get(0));
+                    assertEquals(usuarios[destino], camino.getUsuarios().get(camino.getSaltos()));
+                    int suma = 0;
+                    for (int i = 0; i < camino.getSaltos(); i++) {
+                        suma += pesoMinimo(csr, csr.getIndice(camino.getUsuarios().get(i)), csr.getIndice(camino.getUsuarios().get(i + 1)));
+                    }
+                    assertEquals(camino.getDistancia(), suma, "cada tramo del camino es una conexión del grafo");
+                }
+            }
+        }
+    }
+
+    // Entre dos usuarios puede haber conexiones repetidas: el camino usa la más liviana
+    private static int pesoMinimo(GrafoCSR csr, int origen, int destino) {
+        int minimo = Integer.MAX_VALUE;
+        for (int arista = csr.inicioAdyacentes(origen); arista < csr.finAdyacentes(origen); arista++) {
+            if (csr.getDestino(arista) == destino) {
+                minimo = Math.min(minimo, csr.getPeso(arista));
+            }
+        }
+        assertTrue(minimo != Integer.MAX_VALUE);
+        return minimo;
+    }
+}
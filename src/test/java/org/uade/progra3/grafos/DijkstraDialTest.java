@@ -0,0 +1,70 @@
+package org.uade.progra3.grafos;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uade.progra3.modelo.Usuario;
+import org.uade.progra3.utils.GeneradorRedSocial;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("DijkstraDial")
+class DijkstraDialTest {
+
+    @Test
+    @DisplayName("mismas distancias que Dijkstra en una red sintética")
+    void coincideConDijkstra() {
+        GrafoCSR grafo = new GeneradorRedSocial(9).barabasiAlbert(3_000, 3).aGrafoCSR();
+        for (int origen = 0; origen < grafo.getCantidadVertices(); origen += 211) {
+            assertArrayEquals(Djikstra.calcularDistancias(grafo, origen), DijkstraDial.calcularDistancias(grafo, origen));
+        }
+    }
+
+    @Test
+    @DisplayName("pesos cero, conexiones repetidas e inalcanzables")
+    void pesosCeroEInalcanzables() {
+        Random random = new Random(13);
+        Grafo grafo = new Grafo();
+        Usuario[] usuarios = new Usuario[300];
+        for (int i = 0; i < usuarios.length; i++) {
+            usuarios[i] = new Usuario((long) i, "U" + i);
+            grafo.agregarUsuario(usuarios[i]);
+        }
+        for (int i = 0; i < 700; i++) {
+            grafo.agregarConexion(usuarios[random.nextInt(300)], usuarios[random.nextInt(300)], random.nextInt(4));
+        }
+        GrafoCSR csr = grafo.congelar();
+        for (int origen = 0; origen < 300; origen += 29) {
+            assertArrayEquals(Djikstra.calcularDistancias(csr, origen), DijkstraDial.calcularDistancias(csr, origen));
+        }
+    }
+
+    @Test
+    @DisplayName("se elige para pesos chicos")
+    void seleccion() {
+        GrafoCSR chico = new GeneradorRedSocial(1).barabasiAlbert(50, 2).aGrafoCSR();
+        assertEquals(AlgoritmoCaminosMinimos.DIAL, CaminosMinimos.elegir(chico));
+        GrafoCSR pesado = new GeneradorRedSocial(1, 100_000).barabasiAlbert(50, 2).aGrafoCSR();
+        assertEquals(AlgoritmoCaminosMinimos.MONTICULO, CaminosMinimos.elegir(pesado));
+        assertArrayEquals(Djikstra.calcularDistancias(pesado, 3), CaminosMinimos.calcularDistancias(pesado, 3));
+    }
+
+    @Test
+    @DisplayName("con un peso negativo no se elige y rechaza el grafo")
+    void pesoNegativo() {
+        Grafo grafo = new Grafo();
+        Usuario a = new Usuario(1L, "A"), b = new Usuario(2L, "B"), c = new Usuario(3L, "C");
+        grafo.agregarConexion(a, b, 4);
+        grafo.agregarConexion(b, c, -1);
+        GrafoCSR csr = grafo.congelar();
+
+        assertEquals(-1, csr.getPesoMinimo());
+        assertEquals(4, csr.getPesoMaximo());
+        assertEquals(AlgoritmoCaminosMinimos.MONTICULO, CaminosMinimos.elegir(csr));
+        assertArrayEquals(new int[] {0, 4, 3}, CaminosMinimos.calcularDistancias(csr, csr.getIndice(a)));
+        assertThrows(IllegalArgumentException.class, () -> DijkstraDial.calcularDistancias(csr, 0));
+    }
+}
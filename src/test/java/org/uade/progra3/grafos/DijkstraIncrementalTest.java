@@ -0,0 +1,96 @@
+package org.uade.progra3.grafos;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("DijkstraIncremental")
+class DijkstraIncrementalTest {
+
+    @Test
+    @DisplayName("una conexión que no acorta nada no toca el resultado")
+    void conexionQueNoMejora() {
+        Grafo grafo = new Grafo();
+        Usuario a = new Usuario(1L, "A"), b = new Usuario(2L, "B"), c = new Usuario(3L, "C");
+        grafo.agregarConexion(a, b, 1);
+        grafo.agregarConexion(b, c, 1);
+        int[] distancias = Djikstra.calcularDistancias(grafo, a);
+
+        grafo.agregarConexion(a, c, 5);
+        assertEquals(0, DijkstraIncremental.reparar(grafo, distancias, null, grafo.getIndice(a), grafo.getIndice(c), 5));
+        assertArrayEquals(new int[] {0, 1, 2}, distancias);
+    }
+
+    @Test
+    @DisplayName("un atajo mejora solo lo que queda detrás de él")
+    void atajoMejoraLaRegionAfectada() {
+        Grafo grafo = new Grafo();
+        Usuario a = new Usuario(1L, "A"), b = new Usuario(2L, "B"), c = new Usuario(3L, "C");
+        Usuario d = new Usuario(4L, "D"), e = new Usuario(5L, "E");
+        grafo.agregarConexion(a, b, 1);
+        grafo.agregarConexion(b, c, 10);
+        grafo.agregarConexion(c, d, 1);
+        grafo.agregarConexion(a, e, 1);
+        int[] distancias = Djikstra.calcularDistancias(grafo, a);
+        int[] predecesores = {-1, 0, 1, 2, 0};
+
+        grafo.agregarConexion(e, c, 2);
+        int mejorados = DijkstraIncremental.reparar(grafo, distancias, predecesores, grafo.getIndice(e), grafo.getIndice(c), 2);
+
+        assertEquals(2, mejorados, "C y D");
+        assertArrayEquals(Djikstra.calcularDistancias(grafo, a), distancias);
+        assertEquals(grafo.getIndice(e), predecesores[grafo.getIndice(c)]);
+        assertEquals(grafo.getIndice(c), predecesores[grafo.getIndice(d)]);
+        assertEquals(0, predecesores[grafo.getIndice(b)]);
+    }
+
+    @Test
+    @DisplayName("una serie de conexiones nuevas deja lo mismo que recalcular")
+    void coincideConRecalcular() {
+        Random random = new Random(23);
+        Grafo grafo = new Grafo();
+        Usuario[] usuarios = new Usuario[300];
+        for (int i = 0; i < usuarios.length; i++) {
+            usuarios[i] = new Usuario((long) i, "U" + i);
+            grafo.agregarUsuario(usuarios[i]);
+        }
+        for (int i = 0; i < 600; i++) {
+            grafo.agregarConexion(usuarios[random.nextInt(300)], usuarios[random.nextInt(300)], 1 + random.nextInt(20));
+        }
+        int[] distancias = Djikstra.calcularDistancias(grafo, usuarios[0]);
+        int[] predecesores = new int[usuarios.length];
+        Arrays.fill(predecesores, -1);
+
+        for (int i = 0; i < 400; i++) {
+            Usuario origen = usuarios[random.nextInt(300)];
+            Usuario destino = usuarios[random.nextInt(300)];
+            int peso = 1 + random.nextInt(20);
+            grafo.agregarConexion(origen, destino, peso);
+            DijkstraIncremental.reparar(grafo, distancias, predecesores, grafo.getIndice(origen), grafo.getIndice(destino), peso);
+        }
+
+        assertArrayEquals(Djikstra.calcularDistancias(grafo, usuarios[0]), distancias);
+        // cada predecesor marcado es el final de un camino mínimo: dist[pred] + peso == dist[v]
+        for (int v = 0; v < usuarios.length; v++) {
+            int pred = predecesores[v];
+            if (pred < 0) continue;
+            Integer peso = pesoMinimo(grafo, usuarios[pred], usuarios[v]);
+            assertTrue(peso != null && distancias[pred] + peso == distancias[v]);
+        }
+    }
+
+    private static Integer pesoMinimo(Grafo grafo, Usuario origen, Usuario destino) {
+        return grafo.getAdyacentes(origen).stream()
+                .filter(conexion -> conexion.getDestino().equals(destino))
+                .map(conexion -> conexion.getPeso())
+                .min(Integer::compare)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,51 @@
+package org.uade.progra3.grafos;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uade.progra3.utils.GeneradorRedSocial;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("DijkstraPorLotes")
+class DijkstraPorLotesTest {
+
+    private final GrafoCSR grafo = new GeneradorRedSocial(11).barabasiAlbert(300, 3).aGrafoCSR();
+
+    @Test
+    @DisplayName("cada origen recibe las mismas distancias que un Dijkstra individual")
+    void mismasDistanciasQueDijkstra() {
+        ConcurrentHashMap<Integer, int[]> resultados = new ConcurrentHashMap<>();
+        DijkstraPorLotes.calcularTodos(grafo, (origen, distancias) ->
+                resultados.put(origen, Arrays.copyOf(distancias, distancias.length)));
+
+        assertEquals(grafo.getCantidadVertices(), resultados.size());
+        for (int origen = 0; origen < grafo.getCantidadVertices(); origen += 23) {
+            assertArrayEquals(Djikstra.calcularDistancias(grafo, origen), resultados.get(origen));
+        }
+    }
+
+    @Test
+    @DisplayName("funciona con un pool propio y orígenes repetidos o desconocidos")
+    void poolPropio() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            ConcurrentHashMap<Integer, Integer> sumas = new ConcurrentHashMap<>();
+            int[] origenes = {5, 5, 40, -1};
+            DijkstraPorLotes.calcular(grafo, origenes, pool, (origen, distancias) ->
+                    sumas.merge(origen, Arrays.stream(distancias).filter(d -> d != Integer.MAX_VALUE).sum(), Integer::sum));
+
+            int suma5 = Arrays.stream(Djikstra.calcularDistancias(grafo, 5)).sum();
+            assertEquals(2 * suma5, sumas.get(5), "el espacio de trabajo se limpia entre consultas");
+            assertEquals(0, sumas.get(-1));
+            assertTrue(sumas.get(40) > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -4,11 +4,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.uade.progra3.modelo.CaminoMinimo;
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Recomendacion;
 import org.uade.progra3.modelo.Usuario;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("Djikstra")
@@ -121,4 +129,179 @@ class DjikstraTest {
             assertEquals(4, dist.size());
         }
     }
+
+    @Nested
+    @DisplayName("calcularDistancias (arreglo por índice)")
+    class CalcularDistancias {
+
+        @Test
+        @DisplayName("las distancias quedan en la posición del índice de cada usuario")
+        void distanciasPorIndice() {
+            grafoLinealConAtajo();
+            int[] dist = Djikstra.calcularDistancias(grafo, a);
+            assertEquals(4, dist.length);
+            assertEquals(0, dist[grafo.getIndice(a)]);
+            assertEquals(1, dist[grafo.getIndice(b)]);
+            assertEquals(3, dist[grafo.getIndice(c)]);
+            assertEquals(4, dist[grafo.getIndice(d)]);
+        }
+
+        @Test
+        @DisplayName("una distancia mejorada después de encolar se corrige (disminución de clave)")
+        void disminucionDeClave() {
+            grafo.agregarUsuario(a);
+            grafo.agregarUsuario(b);
+            grafo.agregarUsuario(c);
+            grafo.agregarConexion(a, c, 10);
+            grafo.agregarConexion(a, b, 1);
+            grafo.agregarConexion(b, c, 1);
+            int[] dist = Djikstra.calcularDistancias(grafo, a);
+            assertEquals(2, dist[grafo.getIndice(c)]);
+        }
+
+        @Test
+        @DisplayName("origen que no pertenece al grafo: todos inalcanzables")
+        void origenDesconocido() {
+            grafoLinealConAtajo();
+            int[] dist = Djikstra.calcularDistancias(grafo, new Usuario(99L, "X"));
+            for (int d : dist) {
+                assertEquals(Integer.MAX_VALUE, d);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("recomendar (Dijkstra con corte temprano)")
+    class Recomendar {
+
+        private List<Recomendacion> recomendar(Usuario usuario, int cantidad) {
+            GrafoCSR csr = grafo.congelar();
+            return Djikstra.recomendar(csr, csr.getIndice(usuario), cantidad);
+        }
+
+        @Test
+        @DisplayName("excluye al usuario y a sus conexiones directas, ordena por distancia")
+        void excluyeConexionesDirectas() {
+            grafoLinealConAtajo();
+            // A ya conoce a B y a D: la única sugerencia es C
+            List<Recomendacion> recomendaciones = recomendar(a, 5);
+            assertEquals(1, recomendaciones.size());
+            assertEquals(c, recomendaciones.get(0).getUsuario());
+            assertEquals(3, recomendaciones.get(0).getDistancia());
+            assertEquals(List.of(b), recomendaciones.get(0).getIntermediarios());
+        }
+
+        @Test
+        @DisplayName("corta al llegar a la cantidad pedida")
+        void cortaEnK() {
+            grafoLinealConAtajo();
+            Usuario e = new Usuario(5L, "E");
+            grafo.agregarUsuario(e);
+            grafo.agregarConexion(d, e, 1);
+            // desde B: C es directo; D (5) y E (6) son sugerencias
+            List<Recomendacion> recomendaciones = recomendar(b, 1);
+            assertEquals(1, recomendaciones.size());
+            assertEquals(d, recomendaciones.get(0).getUsuario());
+            assertEquals(2, recomendar(b, 10).size());
+        }
+
+        @Test
+        @DisplayName("consultas repetidas dan el mismo resultado (el espacio de trabajo queda limpio)")
+        void consultasRepetidas() {
+            grafoLinealConAtajo();
+            assertEquals(5, recomendar(b, 1).get(0).getDistancia());
+            assertEquals(3, recomendar(a, 1).get(0).getDistancia());
+            assertEquals(5, recomendar(b, 1).get(0).getDistancia());
+        }
+
+        @Test
+        @DisplayName("usuario desconocido o sin alcanzables: lista vacía")
+        void sinRecomendaciones() {
+            grafoLinealConAtajo();
+            assertTrue(recomendar(new Usuario(99L, "X"), 3).isEmpty());
+            assertTrue(recomendar(d, 3).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("calcularArbol (caminos mínimos)")
+    class CalcularArbol {
+
+        @Test
+        @DisplayName("reconstruye usuarios y conexiones del camino")
+        void reconstruyeCamino() {
+            grafoLinealConAtajo();
+            ArbolCaminosMinimos arbol = Djikstra.calcularArbol(grafo, a);
+            CaminoMinimo camino = arbol.caminoHasta(c);
+            assertEquals(3, camino.getDistancia());
+            assertEquals(List.of(a, b, c), camino.getUsuarios());
+            assertEquals(List.of(b), camino.getIntermediarios());
+            assertEquals(2, camino.getConexiones().size());
+            assertEquals(b, camino.getConexiones().get(0).getDestino());
+            assertEquals(2, camino.getConexiones().get(1).getPeso());
+
+            assertEquals(List.of(a, d), arbol.caminoHasta(d).getUsuarios());
+            assertEquals(grafo.getIndice(b), arbol.getPredecesor(grafo.getIndice(c)));
+        }
+
+        @Test
+        @DisplayName("mismas distancias que calcularDistancias")
+        void mismasDistancias() {
+            grafoLinealConAtajo();
+            assertArrayEquals(Djikstra.calcularDistancias(grafo, b), Djikstra.calcularArbol(grafo, b).getDistancias());
+        }
+
+        @Test
+        @DisplayName("origen e inalcanzables")
+        void origenEInalcanzables() {
+            grafoLinealConAtajo();
+            ArbolCaminosMinimos arbol = Djikstra.calcularArbol(grafo, b);
+            assertEquals(List.of(b), arbol.caminoHasta(b).getUsuarios());
+            assertEquals(0, arbol.caminoHasta(b).getSaltos());
+            assertFalse(arbol.caminoHasta(a).existe());
+            assertEquals(-1, arbol.getPredecesor(grafo.getIndice(a)));
+        }
+    }
+
+    @Nested
+    @DisplayName("con un peso negativo")
+    class PesoNegativo {
+
+        // No dirigido: la amistad B - C de peso -2 forma el ciclo negativo B -> C -> B
+        private GrafoCSR grafoConCicloNegativo() {
+            Grafo noDirigido = new Grafo(false);
+            noDirigido.agregarConexion(a, b, 1);
+            noDirigido.agregarConexion(b, c, -2);
+            noDirigido.agregarConexion(c, d, 3);
+            return noDirigido.congelar();
+        }
+
+        @Test
+        @DisplayName("cada búsqueda termina y visita cada vértice una sola vez")
+        void terminaSinRevisitar() {
+            GrafoCSR csr = grafoConCicloNegativo();
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                int[] distancias = Djikstra.calcularDistancias(csr, 0);
+                assertEquals(0, distancias[0]);
+                Djikstra.calcularArbol(csr, 0);
+                Djikstra.calcularDistanciasHacia(csr, 3);
+                DijkstraBidireccional.calcularCamino(csr, 0, 3);
+                List<Recomendacion> recomendaciones = Djikstra.recomendar(csr, 0, 10);
+                assertEquals(2, recomendaciones.size(), "C y D, sin repetir");
+                assertEquals(2, recomendaciones.stream().map(Recomendacion::getUsuario).distinct().count());
+            });
+        }
+
+        @Test
+        @DisplayName("reparar tras una conexión negativa termina")
+        void repararTermina() {
+            Grafo noDirigido = new Grafo(false);
+            noDirigido.agregarConexion(a, b, 1);
+            noDirigido.agregarConexion(c, d, 3);
+            int[] distancias = Djikstra.calcularDistancias(noDirigido, a);
+            noDirigido.agregarConexion(b, c, -2);
+            assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> DijkstraIncremental.reparar(noDirigido, distancias, null, new Conexion(b, c, -2)));
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package org.uade.progra3.grafos;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("EspaciosDeTrabajo")
+class EspaciosDeTrabajoTest {
+
+    @AfterEach
+    void liberar() {
+        EspaciosDeTrabajo.liberar();
+    }
+
+    @Test
+    @DisplayName("un espacio devuelto se reutiliza limpio para el mismo tamaño")
+    void reutiliza() {
+        EspaciosDeTrabajo.liberar();
+        EspacioTrabajoDijkstra espacio = EspaciosDeTrabajo.tomar(10);
+        espacio.fijarDistancia(3, 7);
+        espacio.visitar(3);
+        EspaciosDeTrabajo.devolver(espacio);
+
+        EspacioTrabajoDijkstra otraVez = EspaciosDeTrabajo.tomar(10);
+        assertSame(espacio, otraVez);
+        assertEquals(Integer.MAX_VALUE, otraVez.distancia[3]);
+        assertFalse(otraVez.visitado(3));
+        assertNotSame(otraVez, EspaciosDeTrabajo.tomar(10), "dos búsquedas a la vez usan espacios distintos");
+    }
+
+    @Test
+    @DisplayName("otro tamaño descarta los espacios anteriores y liberar suelta todo")
+    void descartaYLibera() {
+        EspaciosDeTrabajo.liberar();
+        EspacioTrabajoDijkstra chico = EspaciosDeTrabajo.tomar(10);
+        EspaciosDeTrabajo.devolver(chico);
+        assertEquals(1, EspaciosDeTrabajo.getCantidadLibres());
+
+        EspacioTrabajoDijkstra grande = EspaciosDeTrabajo.tomar(20);
+        assertEquals(20, grande.getCapacidad());
+        assertEquals(0, EspaciosDeTrabajo.getCantidadLibres(), "el de 10 se descartó al buscar uno de 20");
+        EspaciosDeTrabajo.devolver(chico);
+        assertEquals(0, EspaciosDeTrabajo.getCantidadLibres(), "un espacio de otro tamaño no vuelve");
+
+        EspaciosDeTrabajo.devolver(grande);
+        assertEquals(1, EspaciosDeTrabajo.getCantidadLibres());
+        EspaciosDeTrabajo.liberar();
+        assertEquals(0, EspaciosDeTrabajo.getCantidadLibres());
+    }
+}
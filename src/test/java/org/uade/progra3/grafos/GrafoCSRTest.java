@@ -0,0 +1,127 @@
+package org.uade.progra3.grafos;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Usuario;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("GrafoCSR")
+class GrafoCSRTest {
+
+    private Grafo grafo;
+    private Usuario a, b, c;
+
+    @BeforeEach
+    void setUp() {
+        grafo = new Grafo();
+        a = new Usuario(1L, "A");
+        b = new Usuario(2L, "B");
+        c = new Usuario(3L, "C");
+        grafo.agregarUsuario(a);
+        grafo.agregarUsuario(b);
+        grafo.agregarUsuario(c);
+        grafo.agregarConexion(a, b, 1);
+        grafo.agregarConexion(a, c, 4);
+        grafo.agregarConexion(b, c, 2);
+    }
+
+    @Test
+    @DisplayName("conserva los índices del grafo y las aristas salientes de cada vértice")
+    void conservaIndicesYAdyacencias() {
+        GrafoCSR csr = grafo.congelar();
+        assertEquals(3, csr.getCantidadVertices());
+        assertEquals(3, csr.getCantidadAristas());
+
+        int ia = csr.getIndice(a);
+        assertEquals(grafo.getIndice(a), ia);
+        assertEquals(2, csr.getGrado(ia));
+        int primera = csr.inicioAdyacentes(ia);
+        assertEquals(csr.getIndice(b), csr.getDestino(primera));
+        assertEquals(1, csr.getPeso(primera));
+        assertEquals(csr.getIndice(c), csr.getDestino(primera + 1));
+        assertEquals(4, csr.getPeso(primera + 1));
+        assertEquals(0, csr.getGrado(csr.getIndice(c)));
+    }
+
+    @Test
+    @DisplayName("la foto se reutiliza hasta que el grafo cambia")
+    void fotoSeInvalidaAlModificar() {
+        GrafoCSR primera = grafo.congelar();
+        assertSame(primera, grafo.congelar());
+
+        grafo.agregarConexion(c, a, 7);
+        GrafoCSR segunda = grafo.congelar();
+        assertNotSame(primera, segunda);
+        assertEquals(4, segunda.getCantidadAristas());
+    }
+
+    @Test
+    @DisplayName("aGrafo reconstruye las mismas conexiones")
+    void aGrafoReconstruye() {
+        Grafo copia = grafo.congelar().aGrafo();
+        assertEquals(3, copia.getUsuarios().size());
+        assertEquals(3, copia.getConexiones().size());
+        assertEquals(4, copia.getPesoConexion(a, c));
+        int pesoTotal = copia.getConexiones().stream().mapToInt(Conexion::getPeso).sum();
+        assertEquals(7, pesoTotal);
+    }
+
+    @Test
+    @DisplayName("Dijkstra y Kruskal corren sobre la foto CSR")
+    void algoritmosSobreCSR() {
+        GrafoCSR csr = grafo.congelar();
+        int[] dist = Djikstra.calcularDistancias(csr, csr.getIndice(a));
+        assertEquals(3, dist[csr.getIndice(c)]);
+
+        Grafo mst = KruskalMST.arbolDeRecubrimientoMinimo(csr);
+        assertEquals(2, mst.getConexiones().size());
+        assertEquals(3, mst.getConexiones().stream().mapToInt(Conexion::getPeso).sum());
+    }
+
+    @Test
+    @DisplayName("índice inverso: aristas entrantes de cada vértice")
+    void aristasEntrantes() {
+        GrafoCSR csr = grafo.congelar();
+        int ic = csr.getIndice(c);
+        assertEquals(2, csr.finEntrantes(ic) - csr.inicioEntrantes(ic));
+        int primera = csr.inicioEntrantes(ic);
+        assertEquals(csr.getIndice(a), csr.getOrigenEntrante(primera));
+        assertEquals(4, csr.getPeso(csr.getAristaEntrante(primera)));
+        assertEquals(csr.getIndice(b), csr.getOrigenEntrante(primera + 1));
+        assertEquals(ic, csr.getDestino(csr.getAristaEntrante(primera + 1)));
+        int ia = csr.getIndice(a);
+        assertEquals(csr.inicioEntrantes(ia), csr.finEntrantes(ia));
+    }
+
+    @Test
+    @DisplayName("crear copia los arreglos y rechaza un CSR mal formado")
+    void crearCopiaYValida() {
+        Usuario[] usuarios = {a, b, c};
+        int[] inicio = {0, 2, 3, 3};
+        int[] destinos = {1, 2, 2};
+        int[] pesos = {1, 4, 2};
+        GrafoCSR csr = GrafoCSR.crear(usuarios, inicio, destinos, pesos, true);
+
+        destinos[0] = 0;
+        pesos[0] = 99;
+        usuarios[0] = c;
+        assertEquals(1, csr.getDestino(0));
+        assertEquals(1, csr.getPeso(0));
+        assertEquals(a, csr.getUsuario(0));
+
+        Usuario[] tres = {a, b, c};
+        assertThrows(IllegalArgumentException.class, () -> GrafoCSR.crear(tres, new int[] {1, 2, 3, 3}, new int[] {1, 2, 2}, pesos, true));
+        assertThrows(IllegalArgumentException.class, () -> GrafoCSR.crear(tres, new int[] {0, 3, 2, 3}, new int[] {1, 2, 2}, pesos, true));
+        assertThrows(IllegalArgumentException.class, () -> GrafoCSR.crear(tres, new int[] {0, 2, 3, 2}, new int[] {1, 2, 2}, pesos, true));
+        assertThrows(IllegalArgumentException.class, () -> GrafoCSR.crear(tres, new int[] {0, 2, 3, 3}, new int[] {1, 3, 2}, pesos, true));
+        assertThrows(IllegalArgumentException.class, () -> GrafoCSR.crear(tres, new int[] {0, 2, 3}, new int[] {1, 2, 2}, pesos, true));
+        assertThrows(IllegalArgumentException.class, () -> GrafoCSR.crear(new Usuario[] {a, b, a}, inicio, new int[] {1, 2, 2}, pesos, true));
+        assertThrows(IllegalArgumentException.class, () -> GrafoCSR.crear(new Usuario[] {a, null, c}, inicio, new int[] {1, 2, 2}, pesos, true));
+    }
+}
@@ -0,0 +1,150 @@
+package org.uade.progra3.grafos;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Grafo")
+class GrafoTest {
+
+    private Usuario a, b, c;
+
+    @BeforeEach
+    void setUp() {
+        a = new Usuario(1L, "A");
+        b = new Usuario(2L, "B");
+        c = new Usuario(3L, "C");
+    }
+
+    @Nested
+    @DisplayName("dirigido (por defecto)")
+    class Dirigido {
+
+        @Test
+        @DisplayName("la conexión va en un solo sentido y aparece en las entrantes del destino")
+        void unSoloSentido() {
+            Grafo grafo = new Grafo();
+            grafo.agregarConexion(a, b, 4);
+
+            assertTrue(grafo.esDirigido());
+            assertTrue(grafo.existeConexion(a, b));
+            assertFalse(grafo.existeConexion(b, a));
+            assertEquals(List.of(a), grafo.getEntrantes(b).stream().map(Conexion::getOrigen).toList());
+            assertTrue(grafo.getEntrantes(a).isEmpty());
+        }
+
+        @Test
+        @DisplayName("con conexiones repetidas el peso es el de la primera")
+        void primeraConexionGana() {
+            Grafo grafo = new Grafo();
+            grafo.agregarConexion(a, b, 4);
+            grafo.agregarConexion(a, b, 1);
+
+            assertEquals(4, grafo.getPesoConexion(a, b));
+            assertNull(grafo.getPesoConexion(a, c));
+            assertNull(grafo.getPesoConexion(c, a));
+            assertEquals(2, grafo.getEntrantes(b).size());
+        }
+    }
+
+    @Nested
+    @DisplayName("no dirigido")
+    class NoDirigido {
+
+        @Test
+        @DisplayName("cada amistad se recorre en los dos sentidos y se lista una vez")
+        void dosSentidos() {
+            Grafo grafo = new Grafo(false);
+            grafo.agregarConexion(a, b, 4);
+            grafo.agregarConexion(b, c, 2);
+
+            assertEquals(4, grafo.getPesoConexion(b, a));
+            assertEquals(2, grafo.getPesoConexion(c, b));
+            assertEquals(2, grafo.getConexiones().size());
+            assertEquals(2, grafo.getAdyacentes(b).size());
+            assertEquals(2, grafo.getEntrantes(b).size());
+            assertEquals(6, Djikstra.calcularDistancias(grafo, c)[grafo.getIndice(a)]);
+        }
+
+        @Test
+        @DisplayName("una foto cargada se expande sin duplicar amistades")
+        void fotoNoDirigida() {
+            Grafo original = new Grafo(false);
+            original.agregarConexion(a, b, 4);
+            original.agregarConexion(b, c, 2);
+            GrafoCSR foto = original.congelar();
+
+            Grafo cargado = new Grafo(false);
+            cargado.cargarFoto(foto, foto.getUsuarios());
+            assertEquals(4, cargado.getPesoConexion(b, a));
+            assertEquals(2, cargado.getConexiones().size());
+            assertEquals(2, cargado.getEntrantes(b).size());
+
+            Grafo conDatos = new Grafo(false);
+            conDatos.agregarUsuario(c);
+            conDatos.cargarFoto(foto, foto.getUsuarios());
+            assertEquals(2, conDatos.getConexiones().size());
+            assertEquals(foto.getCantidadAristas(), conDatos.congelar().getCantidadAristas());
+        }
+
+        @Test
+        @DisplayName("la red mínima y la vuelta desde la foto siguen siendo no dirigidas")
+        void resultadosNoDirigidos() {
+            Grafo grafo = new Grafo(false);
+            grafo.agregarConexion(a, b, 4);
+            grafo.agregarConexion(b, c, 2);
+            grafo.agregarConexion(c, a, 9);
+
+            Grafo deVuelta = grafo.congelar().aGrafo();
+            assertFalse(deVuelta.esDirigido());
+            assertEquals(3, deVuelta.getConexiones().size());
+            assertEquals(9, deVuelta.getPesoConexion(a, c));
+
+            for (Grafo red : List.of(KruskalMST.arbolDeRecubrimientoMinimo(grafo),
+                    BoruvkaMST.arbolDeRecubrimientoMinimo(grafo), RedMinimaDinamica.calcular(grafo).getRedMinima())) {
+                assertFalse(red.esDirigido());
+                assertEquals(2, red.getConexiones().size());
+                assertEquals(4, red.getPesoConexion(b, a));
+            }
+
+            RedMinimaDinamica dinamica = RedMinimaDinamica.calcular(grafo);
+            grafo.agregarConexion(c, a, 1);
+            assertTrue(dinamica.agregarConexion(c, a, 1));
+            assertFalse(dinamica.getRedMinima().esDirigido());
+            assertEquals(1, dinamica.getRedMinima().getPesoConexion(a, c));
+            assertThrows(IllegalArgumentException.class, () -> new Grafo().cargarFoto(grafo.congelar(), grafo.getUsuarios()));
+        }
+    }
+
+    @Test
+    @DisplayName("agregar un usuario que ya es vértice no cambia la versión ni la foto")
+    void agregarUsuarioRepetido() {
+        Grafo grafo = new Grafo();
+        grafo.agregarUsuario(a);
+        grafo.agregarConexion(a, b, 3);
+        GrafoCSR foto = grafo.congelar();
+        long version = grafo.getVersion();
+
+        grafo.agregarUsuario(a);
+        grafo.agregarUsuario(b); // ya era extremo de una conexión
+        assertEquals(version, grafo.getVersion());
+        assertSame(foto, grafo.congelar());
+        assertTrue(grafo.getUsuarios().contains(b));
+
+        grafo.agregarUsuario(c);
+        assertEquals(version + 1, grafo.getVersion());
+        assertEquals(3, grafo.congelar().getCantidadVertices());
+    }
+}
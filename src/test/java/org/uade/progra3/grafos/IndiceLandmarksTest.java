@@ -0,0 +1,119 @@
+package org.uade.progra3.grafos;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uade.progra3.modelo.CaminoMinimo;
+import org.uade.progra3.modelo.Usuario;
+import org.uade.progra3.utils.GeneradorRedSocial;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("IndiceLandmarks")
+class IndiceLandmarksTest {
+
+    @TempDir
+    Path carpeta;
+
+    private static GrafoCSR dirigidoAleatorio(long semilla, int usuarios, int conexiones) {
+        Random random = new Random(semilla);
+        Grafo grafo = new Grafo();
+        Usuario[] u = new Usuario[usuarios];
+        for (int i = 0; i < usuarios; i++) {
+            u[i] = new Usuario((long) i, "U" + i);
+            grafo.agregarUsuario(u[i]);
+        }
+        for (int i = 0; i < conexiones; i++) {
+            grafo.agregarConexion(u[random.nextInt(usuarios)], u[random.nextInt(usuarios)], 1 + random.nextInt(9));
+        }
+        return grafo.congelar();
+    }
+
+    @Test
+    @DisplayName("las cotas encierran la distancia real y A* la encuentra exacta")
+    void cotasYAEstrella() {
+        GrafoCSR grafo = dirigidoAleatorio(3, 300, 900);
+        IndiceLandmarks indice = IndiceLandmarks.construir(grafo, 6);
+        assertEquals(6, indice.getCantidadLandmarks());
+
+        for (int origen = 0; origen < 300; origen += 31) {
+            int[] real = Djikstra.calcularDistancias(grafo, origen);
+            for (int destino = 0; destino < 300; destino++) {
+                assertTrue(indice.cotaInferior(origen, destino) <= real[destino]);
+                assertTrue(indice.cotaSuperior(origen, destino) >= real[destino]);
+                CaminoMinimo camino = indice.calcularCamino(origen, destino);
+                assertEquals(real[destino], camino.getDistancia());
+                if (camino.existe()) {
+                    assertEquals(grafo.getUsuario(destino), camino.getUsuarios().get(camino.getSaltos()));
+                    assertEquals(real[destino], camino.getConexiones().stream().mapToInt(c -> c.getPeso()).sum());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("en una red sintética los landmarks dan cotas útiles")
+    void redSintetica() {
+        GrafoCSR grafo = new GeneradorRedSocial(5).wattsStrogatz(2_000, 2, 0.05).aGrafoCSR();
+        IndiceLandmarks indice = IndiceLandmarks.construir(grafo, 8);
+        int[] real = Djikstra.calcularDistancias(grafo, 0);
+        // un landmark es exacto consigo mismo
+        int landmark = grafo.getIndice(indice.getLandmarks().get(0));
+        assertEquals(real[landmark], indice.cotaInferior(0, landmark));
+        assertEquals(real[landmark], indice.cotaSuperior(0, landmark));
+    }
+
+    @Test
+    @DisplayName("se guarda y se vuelve a cargar con las mismas cotas")
+    void persistencia() throws IOException {
+        GrafoCSR grafo = dirigidoAleatorio(8, 120, 400);
+        IndiceLandmarks indice = IndiceLandmarks.construir(grafo, 4);
+        Path archivo = carpeta.resolve("landmarks.bin");
+        indice.guardar(archivo);
+
+        IndiceLandmarks cargado = IndiceLandmarks.cargar(archivo, grafo);
+        assertEquals(indice.getLandmarks(), cargado.getLandmarks());
+        for (int v = 0; v < 120; v += 7) {
+            assertEquals(indice.cotaInferior(3, v), cargado.cotaInferior(3, v));
+            assertEquals(indice.cotaSuperior(v, 3), cargado.cotaSuperior(v, 3));
+        }
+
+        GrafoCSR otro = dirigidoAleatorio(8, 121, 400);
+        assertThrows(IOException.class, () -> IndiceLandmarks.cargar(archivo, otro));
+        GrafoCSR mismoTamanio = dirigidoAleatorio(9, 120, 400);
+        assertThrows(IOException.class, () -> IndiceLandmarks.cargar(archivo, mismoTamanio));
+    }
+
+    @Test
+    @DisplayName("una cantidad de landmarks imposible se rechaza con IOException")
+    void cantidadInvalida() throws IOException {
+        GrafoCSR grafo = dirigidoAleatorio(8, 120, 400);
+        Path archivo = carpeta.resolve("landmarks.bin");
+        IndiceLandmarks.construir(grafo, 4).guardar(archivo);
+        byte[] bytes = Files.readAllBytes(archivo);
+        for (int k : new int[] {-1, 0, Integer.MAX_VALUE}) {
+            // k va después de MAGIA, n, m (int) y la huella (long)
+            ByteBuffer.wrap(bytes).putInt(20, k);
+            Files.write(archivo, bytes);
+            assertThrows(IOException.class, () -> IndiceLandmarks.cargar(archivo, grafo));
+        }
+    }
+
+    @Test
+    @DisplayName("construir rechaza una cantidad de landmarks fuera de 1..usuarios")
+    void cantidadInvalidaAlConstruir() {
+        GrafoCSR grafo = dirigidoAleatorio(4, 10, 30);
+        assertThrows(IllegalArgumentException.class, () -> IndiceLandmarks.construir(grafo, 0));
+        assertThrows(IllegalArgumentException.class, () -> IndiceLandmarks.construir(grafo, -3));
+        assertThrows(IllegalArgumentException.class, () -> IndiceLandmarks.construir(grafo, 11));
+        assertEquals(10, IndiceLandmarks.construir(grafo, 10).getCantidadLandmarks());
+    }
+}
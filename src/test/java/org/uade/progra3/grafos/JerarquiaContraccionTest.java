@@ -0,0 +1,95 @@
+package org.uade.progra3.grafos;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uade.progra3.modelo.CaminoMinimo;
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Usuario;
+import org.uade.progra3.utils.GeneradorRedSocial;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("JerarquiaContraccion")
+class JerarquiaContraccionTest {
+
+    @Test
+    @DisplayName("camino chico: distancia y conexiones originales (sin atajos a la vista)")
+    void caminoChico() {
+        Grafo grafo = new Grafo();
+        Usuario a = new Usuario(1L, "A"), b = new Usuario(2L, "B"), c = new Usuario(3L, "C"), d = new Usuario(4L, "D");
+        grafo.agregarUsuario(a);
+        grafo.agregarUsuario(b);
+        grafo.agregarUsuario(c);
+        grafo.agregarUsuario(d);
+        grafo.agregarConexion(a, b, 1);
+        grafo.agregarConexion(b, c, 2);
+        grafo.agregarConexion(c, d, 3);
+        grafo.agregarConexion(a, d, 7);
+        GrafoCSR csr = grafo.congelar();
+        JerarquiaContraccion jerarquia = JerarquiaContraccion.construir(csr);
+
+        CaminoMinimo camino = jerarquia.calcularCamino(csr.getIndice(a), csr.getIndice(d));
+        assertEquals(6, camino.getDistancia());
+        assertEquals(List.of(a, b, c, d), camino.getUsuarios());
+        assertEquals(List.of(1, 2, 3), camino.getConexiones().stream().map(Conexion::getPeso).toList());
+        assertFalse(jerarquia.calcularCamino(csr.getIndice(d), csr.getIndice(a)).existe());
+    }
+
+    @Test
+    @DisplayName("coincide con Dijkstra en un grafo dirigido aleatorio")
+    void coincideConDijkstraDirigido() {
+        Random random = new Random(17);
+        Grafo grafo = new Grafo();
+        Usuario[] usuarios = new Usuario[250];
+        for (int i = 0; i < usuarios.length; i++) {
+            usuarios[i] = new Usuario((long) i, "U" + i);
+            grafo.agregarUsuario(usuarios[i]);
+        }
+        for (int i = 0; i < 900; i++) {
+            grafo.agregarConexion(usuarios[random.nextInt(250)], usuarios[random.nextInt(250)], random.nextInt(8));
+        }
+        verificar(grafo.congelar(), 13);
+    }
+
+    @Test
+    @DisplayName("coincide con Dijkstra en redes sintéticas")
+    void coincideConDijkstraSintetico() {
+        verificar(new GeneradorRedSocial(4).wattsStrogatz(1_500, 3, 0.1).aGrafoCSR(), 149);
+        verificar(new GeneradorRedSocial(4).barabasiAlbert(800, 2).aGrafoCSR(), 97);
+    }
+
+    private static void verificar(GrafoCSR grafo, int paso) {
+        JerarquiaContraccion jerarquia = JerarquiaContraccion.construir(grafo);
+        for (int origen = 0; origen < grafo.getCantidadVertices(); origen += paso) {
+            int[] real = Djikstra.calcularDistancias(grafo, origen);
+            for (int destino = 0; destino < grafo.getCantidadVertices(); destino++) {
+                assertEquals(real[destino], jerarquia.calcularDistancia(origen, destino));
+            }
+            for (int destino = 0; destino < grafo.getCantidadVertices(); destino += 37) {
+                CaminoMinimo camino = jerarquia.calcularCamino(origen, destino);
+                if (!camino.existe()) continue;
+                int suma = 0;
+                for (int i = 0; i < camino.getSaltos(); i++) {
+                    Conexion conexion = camino.getConexiones().get(i);
+                    assertEquals(camino.getUsuarios().get(i), conexion.getOrigen());
+                    assertEquals(camino.getUsuarios().get(i + 1), conexion.getDestino());
+                    assertTrue(existeArista(grafo, grafo.getIndice(conexion.getOrigen()), grafo.getIndice(conexion.getDestino()), conexion.getPeso()));
+                    suma += conexion.getPeso();
+                }
+                assertEquals(real[destino], suma);
+            }
+        }
+    }
+
+    private static boolean existeArista(GrafoCSR grafo, int origen, int destino, int peso) {
+        for (int arista = grafo.inicioAdyacentes(origen); arista < grafo.finAdyacentes(origen); arista++) {
+            if (grafo.getDestino(arista) == destino && grafo.getPeso(arista) == peso) return true;
+        }
+        return false;
+    }
+}
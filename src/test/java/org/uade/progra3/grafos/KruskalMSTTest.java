@@ -148,5 +148,33 @@ class KruskalMSTTest {
             assertEquals(3, pesoTotal, "Debe elegir A-B(1) y B-C(2), no A-C(100)");
             assertEquals(2, mst.getConexiones().size());
         }
+
+        @Test
+        @DisplayName("grafo no conexo: devuelve un bosque con un árbol mínimo por componente")
+        void grafoNoConexo_bosque() {
+            grafo.agregarUsuario(a);
+            grafo.agregarUsuario(b);
+            grafo.agregarUsuario(c);
+            grafo.agregarUsuario(d);
+            grafo.agregarConexion(a, b, 5);
+            grafo.agregarConexion(b, a, 5);
+            grafo.agregarConexion(c, d, 2);
+            grafo.agregarConexion(d, c, 2);
+            Grafo mst = KruskalMST.arbolDeRecubrimientoMinimo(grafo);
+            assertEquals(4, mst.getUsuarios().size());
+            assertEquals(2, mst.getConexiones().size(), "Dos componentes de 2 nodos: 4 - 2 = 2 aristas");
+            assertEquals(7, mst.getConexiones().stream().mapToInt(Conexion::getPeso).sum());
+        }
+
+        @Test
+        @DisplayName("usuarios sin conexiones quedan aislados sin bloquear el cálculo")
+        void usuariosAislados() {
+            grafo.agregarUsuario(a);
+            grafo.agregarUsuario(b);
+            grafo.agregarUsuario(c);
+            Grafo mst = KruskalMST.arbolDeRecubrimientoMinimo(grafo);
+            assertEquals(3, mst.getUsuarios().size());
+            assertTrue(mst.getConexiones().isEmpty());
+        }
     }
 }
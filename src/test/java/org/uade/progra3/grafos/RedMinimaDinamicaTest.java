@@ -0,0 +1,105 @@
+package org.uade.progra3.grafos;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Usuario;
+import org.uade.progra3.servicio.RedSocialServicio;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("RedMinimaDinamica")
+class RedMinimaDinamicaTest {
+
+    private static long pesoTotal(Grafo red) {
+        return red.getConexiones().stream().mapToLong(Conexion::getPeso).sum();
+    }
+
+    @Test
+    @DisplayName("una conexión más liviana reemplaza a la más pesada del ciclo")
+    void reemplazaLaMasPesadaDelCiclo() {
+        Grafo grafo = new Grafo();
+        Usuario a = new Usuario(1L, "A"), b = new Usuario(2L, "B"), c = new Usuario(3L, "C"), d = new Usuario(4L, "D");
+        grafo.agregarConexion(a, b, 1);
+        grafo.agregarConexion(b, c, 5);
+        grafo.agregarConexion(c, d, 2);
+        RedMinimaDinamica red = RedMinimaDinamica.calcular(grafo);
+        assertEquals(8, red.getPesoTotal());
+
+        grafo.agregarConexion(a, d, 6);
+        assertFalse(red.agregarConexion(a, d, 6), "el ciclo A-B-C-D ya tiene todo más liviano");
+        grafo.agregarConexion(d, a, 3);
+        assertTrue(red.agregarConexion(d, a, 3));
+
+        assertEquals(6, red.getPesoTotal());
+        assertEquals(3, red.getCantidadConexiones());
+        assertFalse(red.getRedMinima().existeConexion(b, c));
+        assertTrue(red.getRedMinima().existeConexion(d, a));
+    }
+
+    @Test
+    @DisplayName("une componentes y acepta usuarios nuevos")
+    void uneComponentes() {
+        Grafo grafo = new Grafo();
+        Usuario a = new Usuario(1L, "A"), b = new Usuario(2L, "B"), c = new Usuario(3L, "C");
+        grafo.agregarConexion(a, b, 4);
+        RedMinimaDinamica red = RedMinimaDinamica.calcular(grafo);
+
+        grafo.agregarConexion(b, c, 7);
+        assertTrue(red.agregarConexion(b, c, 7));
+        assertEquals(11, red.getPesoTotal());
+        assertEquals(2, red.getRedMinima().getConexiones().size());
+    }
+
+    @Test
+    @DisplayName("tras una serie de conexiones pesa lo mismo que Kruskal desde cero")
+    void coincideConKruskal() {
+        Random random = new Random(31);
+        Grafo grafo = new Grafo();
+        Usuario[] usuarios = new Usuario[200];
+        for (int i = 0; i < usuarios.length; i++) {
+            usuarios[i] = new Usuario((long) i, "U" + i);
+            grafo.agregarUsuario(usuarios[i]);
+        }
+        for (int i = 0; i < 150; i++) {
+            grafo.agregarConexion(usuarios[random.nextInt(200)], usuarios[random.nextInt(200)], 1 + random.nextInt(50));
+        }
+        RedMinimaDinamica red = RedMinimaDinamica.calcular(grafo);
+
+        for (int i = 0; i < 1_500; i++) {
+            Usuario origen = usuarios[random.nextInt(200)];
+            Usuario destino = usuarios[random.nextInt(200)];
+            int peso = 1 + random.nextInt(50);
+            grafo.agregarConexion(origen, destino, peso);
+            red.agregarConexion(origen, destino, peso);
+            if (i % 100 == 0) {
+                Grafo kruskal = KruskalMST.arbolDeRecubrimientoMinimo(grafo);
+                assertEquals(pesoTotal(kruskal), red.getPesoTotal());
+                assertEquals(kruskal.getConexiones().size(), red.getCantidadConexiones());
+            }
+        }
+        Grafo kruskal = KruskalMST.arbolDeRecubrimientoMinimo(grafo);
+        assertEquals(pesoTotal(kruskal), pesoTotal(red.getRedMinima()));
+        assertEquals(kruskal.getConexiones().size(), red.getRedMinima().getConexiones().size());
+    }
+
+    @Test
+    @DisplayName("el servicio mantiene la red mínima al agregar conexiones")
+    void servicioActualizaLaRedMinima() {
+        RedSocialServicio servicio = new RedSocialServicio();
+        servicio.cargarDatos("demo-red-social.json");
+        servicio.calcularRedMinima();
+        List<Usuario> usuarios = servicio.getUsuarios();
+
+        servicio.agregarConexion(usuarios.get(0), usuarios.get(usuarios.size() - 1), 0);
+        Grafo red = servicio.getRedMinima();
+
+        assertTrue(red.existeConexion(usuarios.get(0), usuarios.get(usuarios.size() - 1)));
+        assertEquals(pesoTotal(KruskalMST.arbolDeRecubrimientoMinimo(servicio.getGrafoCompleto())), pesoTotal(red));
+    }
+}
@@ -0,0 +1,66 @@
+package org.uade.progra3.modelo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Publicacion")
+class PublicacionTest {
+
+    private static List<Like> likes(int cantidad) {
+        List<Like> likes = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            likes.add(new Like());
+        }
+        return likes;
+    }
+
+    private static List<Comentario> comentarios(int cantidad) {
+        List<Comentario> comentarios = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            comentarios.add(new Comentario());
+        }
+        return comentarios;
+    }
+
+    @Test
+    @DisplayName("la ponderación guardada es la que daban las listas: comentarios * 10 + likes * 2")
+    void ponderacionComoConListas() {
+        for (int cantidadLikes = 0; cantidadLikes <= 7; cantidadLikes++) {
+            for (int cantidadComentarios = 0; cantidadComentarios <= 4; cantidadComentarios++) {
+                List<Like> likes = likes(cantidadLikes);
+                List<Comentario> comentarios = comentarios(cantidadComentarios);
+                Publicacion publicacion = new Publicacion(likes, comentarios, 10);
+
+                assertEquals(comentarios.size() * 10 + likes.size() * 2, publicacion.ponderar());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("con contadores o con listas del mismo tamaño se obtiene la misma publicación")
+    void constructoresCoinciden() {
+        List<Like> likes = likes(5);
+        List<Comentario> comentarios = comentarios(2);
+        Publicacion conListas = new Publicacion(likes, comentarios, 25);
+        Publicacion conContadores = new Publicacion(5, 2, 25);
+
+        assertEquals(conContadores.ponderar(), conListas.ponderar());
+        assertEquals(conContadores.getCantidadLikes(), conListas.getCantidadLikes());
+        assertEquals(conContadores.getCantidadComentarios(), conListas.getCantidadComentarios());
+        assertEquals(conContadores.getTamanio(), conListas.getTamanio());
+        assertEquals(0, conContadores.compareTo(conListas));
+
+        assertSame(likes, conListas.getLikes());
+        assertSame(comentarios, conListas.getComentarios());
+        assertTrue(conContadores.getLikes().isEmpty());
+        assertEquals(Collections.emptyList(), conContadores.getComentarios());
+    }
+}
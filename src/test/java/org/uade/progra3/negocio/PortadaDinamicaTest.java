@@ -13,8 +13,10 @@ import org.uade.progra3.modelo.Publicacion;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("PortadaDinamica")
@@ -213,4 +215,113 @@ class PortadaDinamicaTest {
             assertEquals(second, portada.getPublicaciones().get(1));
         }
     }
+
+    @Nested
+    @DisplayName("obtenerPublicaciones - modo compacto")
+    class ModoCompacto {
+
+        private final PortadaDinamica compacta = new PortadaDinamica(PortadaDinamica.Modo.COMPACTA);
+
+        @Test
+        @DisplayName("mochila: mismo subconjunto óptimo que la tabla completa")
+        void mismoOptimoQueTablaCompleta() {
+            Publicacion a = publicacion(60, 50);
+            Publicacion b = publicacion(50, 50);
+            Publicacion c = publicacion(50, 50);
+            CandidatoPublicaciones feed = new CandidatoPublicaciones(List.of(a, b, c));
+
+            compacta.obtenerPublicaciones(feed, portada);
+
+            assertEquals(List.of(a, b), portada.getPublicaciones());
+        }
+
+        @Test
+        @DisplayName("publicación más grande que la capacidad queda afuera")
+        void publicacionDemasiadoGrande() {
+            Publicacion fits = publicacion(50, 50);
+            Publicacion tooBig = publicacion(100, Portada.getTamanioMaximo() + 1);
+
+            compacta.obtenerPublicaciones(new CandidatoPublicaciones(List.of(fits, tooBig)), portada);
+
+            assertEquals(List.of(fits), portada.getPublicaciones());
+        }
+
+        @Test
+        @DisplayName("candidatas aleatorias: exactamente la misma selección que el modo completo")
+        void mismaSeleccionQueModoCompleto() {
+            Random random = new Random(7);
+            for (int prueba = 0; prueba < 50; prueba++) {
+                List<Publicacion> candidatas = new ArrayList<>();
+                int cantidad = 1 + random.nextInt(30);
+                for (int i = 0; i < cantidad; i++) {
+                    candidatas.add(publicacion(random.nextInt(20) * 2, 1 + random.nextInt(60)));
+                }
+                CandidatoPublicaciones feed = new CandidatoPublicaciones(candidatas);
+                Portada completa = new Portada();
+                portadaDinamica.obtenerPublicaciones(feed, completa);
+
+                compacta.obtenerPublicaciones(feed, portada);
+
+                assertEquals(completa.getPublicaciones(), portada.getPublicaciones());
+            }
+        }
+
+        @Test
+        @DisplayName("feed vacío limpia la portada")
+        void feedVacio() {
+            portada.getPublicaciones().add(publicacion(10, 5));
+
+            compacta.obtenerPublicaciones(new CandidatoPublicaciones(Collections.emptyList()), portada);
+
+            assertTrue(portada.getPublicaciones().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("obtenerPublicaciones - capacidad por portada")
+    class CapacidadPorPortada {
+
+        @Test
+        @DisplayName("usa la capacidad propia de la portada")
+        void usaCapacidadPropia() {
+            Publicacion a = publicacion(30, 40);
+            Publicacion b = publicacion(20, 30);
+            Portada chica = new Portada(50);
+
+            portadaDinamica.obtenerPublicaciones(new CandidatoPublicaciones(List.of(a, b)), chica);
+
+            assertEquals(List.of(a), chica.getPublicaciones());
+        }
+
+        @Test
+        @DisplayName("varias portadas en una pasada: cada una igual que calcularla por separado")
+        void variasCapacidadesUnaPasada() {
+            Random random = new Random(11);
+            List<Publicacion> candidatas = new ArrayList<>();
+            for (int i = 0; i < 25; i++) {
+                candidatas.add(publicacion(random.nextInt(20) * 2, 1 + random.nextInt(60)));
+            }
+            CandidatoPublicaciones feed = new CandidatoPublicaciones(candidatas);
+
+            for (PortadaDinamica.Modo modo : PortadaDinamica.Modo.values()) {
+                PortadaDinamica dinamica = new PortadaDinamica(modo);
+                List<Portada> juntas = List.of(new Portada(40), new Portada(150), new Portada(90));
+                dinamica.obtenerPublicaciones(feed, juntas);
+
+                for (Portada juntaConOtras : juntas) {
+                    Portada sola = new Portada(juntaConOtras.getCapacidad());
+                    dinamica.obtenerPublicaciones(feed, sola);
+                    assertEquals(sola.getPublicaciones(), juntaConOtras.getPublicaciones(), modo + " capacidad " + sola.getCapacidad());
+                    int usado = sola.getPublicaciones().stream().mapToInt(Publicacion::getTamanio).sum();
+                    assertTrue(usado <= sola.getCapacidad());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("capacidad negativa es rechazada")
+        void capacidadNegativa() {
+            assertThrows(IllegalArgumentException.class, () -> new Portada(-1));
+        }
+    }
 }
@@ -0,0 +1,215 @@
+package org.uade.progra3.servicio;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uade.progra3.grafos.Djikstra;
+import org.uade.progra3.grafos.Grafo;
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CacheDistancias")
+class CacheDistanciasTest {
+
+    private Grafo grafo;
+    private Usuario a, b, c;
+
+    @BeforeEach
+    void setUp() {
+        grafo = new Grafo();
+        a = new Usuario(1L, "A");
+        b = new Usuario(2L, "B");
+        c = new Usuario(3L, "C");
+        grafo.agregarUsuario(a);
+        grafo.agregarUsuario(b);
+        grafo.agregarUsuario(c);
+        grafo.agregarConexion(a, b, 2);
+        grafo.agregarConexion(b, c, 3);
+    }
+
+    private int[] obtener(CacheDistancias cache, Usuario origen) {
+        return cache.obtener(grafo, origen, o -> Djikstra.calcularDistancias(grafo, o));
+    }
+
+    @Test
+    @DisplayName("la segunda consulta al mismo origen es un acierto")
+    void aciertoYFallo() {
+        CacheDistancias cache = new CacheDistancias(4, 100);
+        int[] primera = obtener(cache, a);
+        int[] segunda = obtener(cache, a);
+
+        assertSame(primera, segunda);
+        assertEquals(1, cache.getFallos());
+        assertEquals(1, cache.getAciertos());
+        assertEquals(3, cache.getPesoActual());
+    }
+
+    @Test
+    @DisplayName("al pasar el límite de entradas se descarta el menos usado")
+    void desalojoLRU() {
+        CacheDistancias cache = new CacheDistancias(2, 100);
+        obtener(cache, a);
+        obtener(cache, b);
+        obtener(cache, a); // b pasa a ser el menos usado
+        obtener(cache, c);
+
+        assertEquals(2, cache.getCantidadEntradas());
+        assertEquals(1, cache.getDesalojos());
+        obtener(cache, a);
+        assertEquals(2, cache.getAciertos());
+        obtener(cache, b);
+        assertEquals(4, cache.getFallos(), "b fue desalojado");
+    }
+
+    @Test
+    @DisplayName("el límite de peso cuenta las distancias guardadas")
+    void desalojoPorPeso() {
+        CacheDistancias cache = new CacheDistancias(10, 5);
+        obtener(cache, a);
+        obtener(cache, b);
+
+        assertEquals(1, cache.getCantidadEntradas());
+        assertEquals(3, cache.getPesoActual());
+    }
+
+    @Test
+    @DisplayName("una conexión nueva invalida lo calculado")
+    void invalidacionAlModificarGrafo() {
+        CacheDistancias cache = new CacheDistancias(4, 100);
+        assertEquals(Integer.MAX_VALUE, obtener(cache, c)[0]);
+
+        grafo.agregarConexion(c, a, 1);
+        assertEquals(1, obtener(cache, c)[0]);
+        assertEquals(1, cache.getInvalidaciones());
+        assertEquals(2, cache.getFallos());
+    }
+
+    @Test
+    @DisplayName("dos fallos a la vez calculan en paralelo, sin esperarse")
+    void fallosConcurrentes() throws Exception {
+        CacheDistancias cache = new CacheDistancias(4, 100);
+        // cada cálculo espera a que el otro haya empezado: si obtener los serializara, ninguno terminaría a tiempo
+        CountDownLatch empezados = new CountDownLatch(2);
+        Function<Usuario, int[]> calcular = o -> {
+            empezados.countDown();
+            try {
+                assertTrue(empezados.await(5, TimeUnit.SECONDS), "el otro cálculo quedó esperando el monitor");
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return Djikstra.calcularDistancias(grafo, o);
+        };
+        ExecutorService hilos = Executors.newFixedThreadPool(2);
+        try {
+            Future<int[]> desdeA = hilos.submit(() -> cache.obtener(grafo, a, calcular));
+            Future<int[]> desdeB = hilos.submit(() -> cache.obtener(grafo, b, calcular));
+            assertArrayEquals(Djikstra.calcularDistancias(grafo, a), desdeA.get(10, TimeUnit.SECONDS));
+            assertArrayEquals(Djikstra.calcularDistancias(grafo, b), desdeB.get(10, TimeUnit.SECONDS));
+        } finally {
+            hilos.shutdownNow();
+        }
+        assertEquals(2, cache.getCantidadEntradas());
+        assertEquals(2, cache.getFallos());
+    }
+
+    @Test
+    @DisplayName("lo calculado mientras el grafo cambiaba no se guarda")
+    void calculoDeOtraVersion() {
+        CacheDistancias cache = new CacheDistancias(4, 100);
+        int[] viejas = cache.obtener(grafo, c, o -> {
+            int[] distancias = Djikstra.calcularDistancias(grafo, o);
+            grafo.agregarConexion(c, a, 1);
+            return distancias;
+        });
+
+        assertEquals(Integer.MAX_VALUE, viejas[0]);
+        assertEquals(0, cache.getCantidadEntradas());
+        assertEquals(1, obtener(cache, c)[0]);
+    }
+
+    @Test
+    @DisplayName("una conexión agregada por el servicio repara la cache en lugar de invalidarla")
+    void reparacionAlAgregarConexion() {
+        RedSocialServicio servicio = new RedSocialServicio();
+        servicio.cargarDatos("demo-red-social.json");
+        List<Usuario> usuarios = servicio.getUsuarios();
+        Map<Usuario, Integer> antes = servicio.calcularDistanciasDesde(usuarios.get(0));
+        servicio.calcularDistanciasDesde(usuarios.get(1));
+
+        servicio.agregarConexion(usuarios.get(0), usuarios.get(usuarios.size() - 1), 1);
+        Map<Usuario, Integer> despues = servicio.calcularDistanciasDesde(usuarios.get(0));
+
+        assertEquals(Djikstra.calcularCaminosMinimos(servicio.getGrafoCompleto(), usuarios.get(0)), despues);
+        assertEquals(Djikstra.calcularCaminosMinimos(servicio.getGrafoCompleto(), usuarios.get(1)),
+                servicio.calcularDistanciasDesde(usuarios.get(1)));
+        assertEquals(0, servicio.getCacheDistancias().getInvalidaciones());
+        assertEquals(1, servicio.getCacheDistancias().getReparaciones());
+        assertEquals(2, servicio.getCacheDistancias().getAciertos());
+        assertEquals(antes.get(usuarios.get(1)), despues.get(usuarios.get(1)), "lo que no se acorta queda igual");
+    }
+
+    @Test
+    @DisplayName("si hubo otro cambio desde la versión anterior no se repara nada")
+    void reparacionConOtroCambio() {
+        CacheDistancias cache = new CacheDistancias(4, 100);
+        obtener(cache, a);
+        long version = grafo.getVersion();
+        grafo.agregarConexion(c, a, 1);
+        grafo.agregarConexion(a, c, 1);
+
+        assertFalse(cache.repararConexion(grafo, version, new Conexion(a, c, 1)));
+        assertEquals(1, obtener(cache, a)[2]);
+        assertEquals(1, cache.getInvalidaciones());
+    }
+
+    @Test
+    @DisplayName("en un grafo no dirigido se repara también la vuelta de la conexión")
+    void reparacionNoDirigida() {
+        Grafo noDirigido = new Grafo(false);
+        noDirigido.agregarConexion(a, b, 2);
+        noDirigido.agregarConexion(b, c, 9);
+        CacheDistancias cache = new CacheDistancias(4, 100);
+        cache.obtener(noDirigido, c, o -> Djikstra.calcularDistancias(noDirigido, o));
+
+        long version = noDirigido.getVersion();
+        noDirigido.agregarConexion(a, c, 1);
+        assertTrue(cache.repararConexion(noDirigido, version, new Conexion(a, c, 1)));
+
+        int[] distancias = cache.obtener(noDirigido, c, o -> Djikstra.calcularDistancias(noDirigido, o));
+        assertArrayEquals(Djikstra.calcularDistancias(noDirigido, c), distancias);
+        assertEquals(1, cache.getAciertos());
+    }
+
+    @Test
+    @DisplayName("el servicio responde desde la cache y se invalida al cargar datos")
+    void servicioUsaLaCache() {
+        RedSocialServicio servicio = new RedSocialServicio();
+        servicio.cargarDatos("demo-red-social.json");
+        Usuario origen = servicio.getUsuarios().get(0);
+
+        Map<Usuario, Integer> primera = servicio.calcularDistanciasDesde(origen);
+        Map<Usuario, Integer> segunda = servicio.calcularDistanciasDesde(origen);
+        assertEquals(Djikstra.calcularCaminosMinimos(servicio.getGrafoCompleto(), origen), primera);
+        assertEquals(primera, segunda);
+        assertEquals(1, servicio.getCacheDistancias().getAciertos());
+
+        servicio.getGrafoCompleto().agregarConexion(origen, servicio.getUsuarios().get(1), 1);
+        assertEquals(1, servicio.calcularDistanciasDesde(origen).get(servicio.getUsuarios().get(1)));
+        assertEquals(1, servicio.getCacheDistancias().getInvalidaciones());
+    }
+}
@@ -0,0 +1,74 @@
+package org.uade.progra3.servicio;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.uade.progra3.grafos.AlgoritmoCamino;
+import org.uade.progra3.grafos.Djikstra;
+import org.uade.progra3.modelo.CaminoMinimo;
+import org.uade.progra3.modelo.Portada;
+import org.uade.progra3.modelo.Publicacion;
+import org.uade.progra3.modelo.Usuario;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("RedSocialServicio")
+class RedSocialServicioTest {
+
+    private RedSocialServicio servicio;
+    private List<Usuario> usuarios;
+
+    @BeforeEach
+    void setUp() {
+        servicio = new RedSocialServicio();
+        servicio.cargarDatos("demo-red-social.json");
+        usuarios = servicio.getUsuarios();
+    }
+
+    @Test
+    @DisplayName("los tres algoritmos de camino dan la distancia de Dijkstra")
+    void algoritmosDeCamino() {
+        Usuario origen = usuarios.get(0);
+        Map<Usuario, Integer> real = Djikstra.calcularCaminosMinimos(servicio.getGrafoCompleto(), origen);
+        for (AlgoritmoCamino algoritmo : AlgoritmoCamino.values()) {
+            for (Usuario destino : usuarios) {
+                CaminoMinimo camino = servicio.calcularCamino(origen, destino, algoritmo);
+                Integer esperado = real.get(destino);
+                assertEquals(esperado == null ? Integer.MAX_VALUE : esperado, camino.getDistancia(), algoritmo.name());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("un índice desactualizado se vuelve a armar al pedir ese algoritmo")
+    void indiceDesactualizado() {
+        Usuario origen = usuarios.get(0);
+        Usuario destino = usuarios.get(usuarios.size() - 1);
+        servicio.calcularCamino(origen, destino, AlgoritmoCamino.JERARQUIA);
+        servicio.agregarConexion(origen, destino, 0);
+
+        assertEquals(0, servicio.calcularCamino(origen, destino, AlgoritmoCamino.JERARQUIA).getDistancia());
+        assertEquals(0, servicio.calcularCamino(origen, destino, AlgoritmoCamino.LANDMARKS).getDistancia());
+        assertEquals(0, servicio.calcularCamino(origen, destino).getDistancia());
+    }
+
+    @Test
+    @DisplayName("una portada con otra capacidad no cambia la portada por defecto")
+    void portadaConOtraCapacidad() {
+        int capacidadPorDefecto = servicio.getCapacidadPortada();
+        servicio.calcularPortadaOptima();
+        List<Publicacion> porDefecto = List.copyOf(servicio.getPortadaOptima());
+
+        Portada chica = servicio.calcularPortadaOptima(10);
+        assertEquals(10, chica.getCapacidad());
+        assertTrue(chica.getPublicaciones().stream().mapToInt(Publicacion::getTamanio).sum() <= 10);
+
+        assertEquals(capacidadPorDefecto, servicio.getCapacidadPortada());
+        servicio.calcularPortadaOptima();
+        assertEquals(porDefecto, servicio.getPortadaOptima());
+    }
+}
@@ -0,0 +1,188 @@
+package org.uade.progra3.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uade.progra3.grafos.Djikstra;
+import org.uade.progra3.grafos.Grafo;
+import org.uade.progra3.modelo.Usuario;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("DataLoader")
+class DataLoaderTest {
+
+    @TempDir
+    Path carpeta;
+
+    private Grafo grafo;
+    private DataLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        grafo = new Grafo();
+        loader = new DataLoader(grafo);
+    }
+
+    private Path archivo(String json) throws IOException {
+        Path archivo = carpeta.resolve("datos.json");
+        Files.writeString(archivo, json);
+        return archivo;
+    }
+
+    @Test
+    @DisplayName("carga el recurso de demo completo")
+    void cargaRecursoDemo() {
+        loader.cargarDesdeRecurso("demo-red-social.json");
+        assertEquals(8, loader.getUsuarios().size());
+        assertEquals(11, grafo.getConexiones().size());
+        assertEquals(10, loader.getPublicaciones().size());
+        assertEquals(29, loader.getRegistrosLeidos());
+        assertTrue(loader.getRegistrosPorSegundo() > 0);
+        // { "likes": 5, "comentarios": 2, "tamanio": 25 } -> 2*10 + 5*2
+        assertEquals(30, loader.getPublicaciones().get(0).ponderar());
+    }
+
+    @Test
+    @DisplayName("saltea claves desconocidas y acepta conexiones antes que usuarios")
+    void clavesDesconocidasYOrdenInverso() throws IOException {
+        loader.cargarDesdeArchivo(archivo("{"
+                + "\"version\": {\"n\": [1, 2, {\"x\": null}]},"
+                + "\"conexiones\": [{\"origen\": 1, \"destino\": 2, \"peso\": 4, \"nota\": \"hola\"},"
+                + "                 {\"origen\": 1, \"destino\": 9, \"peso\": 1}],"
+                + "\"usuarios\": [{\"id\": 1, \"nombre\": \"A\", \"activo\": true}, {\"nombre\": \"B\", \"id\": 2}]"
+                + "}"));
+
+        assertEquals(2, loader.getUsuarios().size());
+        assertEquals(1, grafo.getConexiones().size(), "La conexión a un usuario inexistente se ignora");
+        assertEquals(4, grafo.getPesoConexion(new Usuario(1L, "A"), new Usuario(2L, "B")));
+        assertTrue(loader.getPublicaciones().isEmpty());
+    }
+
+    @Test
+    @DisplayName("falta la sección de conexiones: error")
+    void faltanConexiones() throws IOException {
+        Path sinConexiones = archivo("{\"usuarios\": []}");
+        assertThrows(RuntimeException.class, () -> loader.cargarDesdeArchivo(sinConexiones));
+    }
+
+    @Test
+    @DisplayName("falta una coma entre claves o entre elementos, o sobra al final: error")
+    void comasObligatorias() throws IOException {
+        String usuarios = "\"usuarios\": [{\"id\": 1, \"nombre\": \"A\"}, {\"id\": 2, \"nombre\": \"B\"}]";
+        String conexiones = "\"conexiones\": [{\"origen\": 1, \"destino\": 2, \"peso\": 4}]";
+        loader.cargarDesdeArchivo(archivo("{" + usuarios + ", " + conexiones + "}"));
+        assertEquals(1, grafo.getConexiones().size());
+
+        String[] malformados = {
+                "{" + usuarios + " " + conexiones + "}",
+                "{\"usuarios\": [{\"id\": 1 \"nombre\": \"A\"}], " + conexiones + "}",
+                "{\"usuarios\": [{\"id\": 1, \"nombre\": \"A\"} {\"id\": 2, \"nombre\": \"B\"}], " + conexiones + "}",
+                "{\"extra\": [1 \"2\"], " + usuarios + ", " + conexiones + "}",
+                "{\"extra\": {\"x\": 1 \"y\": 2}, " + usuarios + ", " + conexiones + "}",
+                "{" + usuarios + ", " + conexiones + ",}",
+                "{\"extra\": [1, 2,], " + usuarios + ", " + conexiones + "}",
+                "{\"extra\": [1 }, " + usuarios + ", " + conexiones + "}",
+        };
+        for (String json : malformados) {
+            Path archivo = archivo(json);
+            assertThrows(RuntimeException.class, () -> new DataLoader(new Grafo()).cargarDesdeArchivo(archivo), json);
+        }
+    }
+
+    @Test
+    @DisplayName("snapshot binario: al recargarlo se obtienen los mismos datos y distancias")
+    void snapshotIdaYVuelta() {
+        loader.cargarDesdeRecurso("demo-red-social.json");
+        Path snapshot = carpeta.resolve("red.bin");
+        loader.guardarSnapshot(snapshot);
+
+        Grafo recargado = new Grafo();
+        DataLoader otro = new DataLoader(recargado);
+        otro.cargarDesdeSnapshot(snapshot);
+
+        assertEquals(loader.getUsuarios(), otro.getUsuarios());
+        assertEquals(loader.getUsuarios().get(0).getNombre(), otro.getUsuarios().get(0).getNombre());
+        assertEquals(grafo.getUsuarios(), recargado.getUsuarios());
+        assertEquals(loader.getPublicaciones().size(), otro.getPublicaciones().size());
+        for (int i = 0; i < loader.getPublicaciones().size(); i++) {
+            assertEquals(loader.getPublicaciones().get(i).ponderar(), otro.getPublicaciones().get(i).ponderar());
+            assertEquals(loader.getPublicaciones().get(i).getTamanio(), otro.getPublicaciones().get(i).getTamanio());
+        }
+
+        Usuario origen = loader.getUsuarios().get(0);
+        assertEquals(Djikstra.calcularCaminosMinimos(grafo, origen), Djikstra.calcularCaminosMinimos(recargado, origen));
+
+        // Las listas de adyacencia se arman recién al pedirlas
+        assertEquals(11, recargado.getConexiones().size());
+        Usuario paula = new Usuario(1L, "");
+        Usuario silvia = new Usuario(2L, "");
+        assertEquals(3, recargado.getPesoConexion(paula, silvia));
+    }
+
+    @Test
+    @DisplayName("snapshot no dirigido: guarda el modo y no duplica amistades")
+    void snapshotNoDirigido() {
+        Grafo noDirigido = new Grafo(false);
+        DataLoader noDirigidoLoader = new DataLoader(noDirigido);
+        noDirigidoLoader.cargarDesdeRecurso("demo-red-social.json");
+        Path snapshot = carpeta.resolve("amistades.bin");
+        noDirigidoLoader.guardarSnapshot(snapshot);
+
+        Grafo recargado = new Grafo(false);
+        new DataLoader(recargado).cargarDesdeSnapshot(snapshot);
+        assertEquals(noDirigido.getConexiones().size(), recargado.getConexiones().size());
+        Usuario origen = noDirigidoLoader.getUsuarios().get(0);
+        assertEquals(Djikstra.calcularCaminosMinimos(noDirigido, origen), Djikstra.calcularCaminosMinimos(recargado, origen));
+
+        assertThrows(RuntimeException.class, () -> loader.cargarDesdeSnapshot(snapshot), "el grafo del loader es dirigido");
+        assertTrue(grafo.getUsuarios().isEmpty());
+    }
+
+    @Test
+    @DisplayName("snapshot con otro formato: error")
+    void snapshotInvalido() throws IOException {
+        Path basura = archivo("no soy un snapshot");
+        assertThrows(RuntimeException.class, () -> loader.cargarDesdeSnapshot(basura));
+    }
+
+    @Test
+    @DisplayName("snapshot truncado o corrupto: IOException, nunca un error de buffer o de arreglo")
+    void snapshotCorrupto() throws IOException {
+        Usuario a = new Usuario(1L, "A"), b = new Usuario(2L, "B");
+        Grafo chico = new Grafo();
+        chico.agregarConexion(a, b, 3);
+        Path snapshot = carpeta.resolve("chico.bin");
+        SnapshotBinario.escribir(chico, List.of(a, b), List.of(), snapshot);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        // cabecera de 28 bytes, dos usuarios de 13, índices de usuario, inicio[3], destino, peso
+        int modo = 8, cantidadVertices = 12, indiceUsuario = 54, inicio = 62, destino = 74;
+        assertEquals(82, bytes.length);
+        assertEquals(1, SnapshotBinario.leer(snapshot).getGrafo().getCantidadAristas());
+
+        for (int largo = 0; largo < bytes.length; largo++) {
+            Files.write(snapshot, Arrays.copyOf(bytes, largo));
+            assertThrows(IOException.class, () -> SnapshotBinario.leer(snapshot), "truncado a " + largo + " bytes");
+        }
+        int[][] cambios = {{modo, 2},
+                {cantidadVertices, -1}, {cantidadVertices, Integer.MAX_VALUE}, {cantidadVertices + 4, Integer.MAX_VALUE},
+                {indiceUsuario, 2}, {indiceUsuario + 4, -1}, {inicio + 4, -1}, {inicio + 4, 5}, {destino, 2}};
+        for (int[] cambio : cambios) {
+            byte[] corrupto = bytes.clone();
+            ByteBuffer.wrap(corrupto).putInt(cambio[0], cambio[1]);
+            Files.write(snapshot, corrupto);
+            assertThrows(IOException.class, () -> SnapshotBinario.leer(snapshot),
+                    "el entero en " + cambio[0] + " vale " + cambio[1]);
+        }
+    }
+}
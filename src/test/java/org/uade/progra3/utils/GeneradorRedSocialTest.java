@@ -0,0 +1,84 @@
+package org.uade.progra3.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uade.progra3.grafos.Djikstra;
+import org.uade.progra3.grafos.Grafo;
+import org.uade.progra3.grafos.GrafoCSR;
+import org.uade.progra3.grafos.KruskalMST;
+import org.uade.progra3.modelo.Conexion;
+import org.uade.progra3.modelo.Publicacion;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("GeneradorRedSocial")
+class GeneradorRedSocialTest {
+
+    @TempDir
+    Path carpeta;
+
+    @Test
+    @DisplayName("Barabási–Albert: cantidad de conexiones esperada y misma red con la misma semilla")
+    void barabasiAlbertReproducible() {
+        GeneradorRedSocial.RedGenerada red = new GeneradorRedSocial(1L).barabasiAlbert(1_000, 3);
+        // grupo inicial de 4 (6 amistades) + 996 usuarios * 3 amistades, dos conexiones por amistad
+        assertEquals(2 * (6 + 996 * 3), red.getCantidadConexiones());
+
+        GrafoCSR una = red.aGrafoCSR();
+        GrafoCSR otra = new GeneradorRedSocial(1L).barabasiAlbert(1_000, 3).aGrafoCSR();
+        assertArrayEquals(Djikstra.calcularDistancias(una, 0), Djikstra.calcularDistancias(otra, 0));
+    }
+
+    @Test
+    @DisplayName("Barabási–Albert: hay usuarios muy populares (grado muy por encima del promedio)")
+    void barabasiAlbertTieneHubs() {
+        GrafoCSR csr = new GeneradorRedSocial(5L).barabasiAlbert(5_000, 2).aGrafoCSR();
+        int gradoMaximo = 0;
+        for (int v = 0; v < csr.getCantidadVertices(); v++) {
+            gradoMaximo = Math.max(gradoMaximo, csr.getGrado(v));
+        }
+        double gradoPromedio = (double) csr.getCantidadAristas() / csr.getCantidadVertices();
+        assertTrue(gradoMaximo > 10 * gradoPromedio, "grado máximo " + gradoMaximo + ", promedio " + gradoPromedio);
+    }
+
+    @Test
+    @DisplayName("Watts–Strogatz: conexo, pesos en rango y CSR equivalente al Grafo")
+    void wattsStrogatz() {
+        GeneradorRedSocial.RedGenerada red = new GeneradorRedSocial(3L, 4).wattsStrogatz(500, 3, 0.1);
+        assertEquals(2 * 500 * 3, red.getCantidadConexiones());
+
+        Grafo grafo = red.aGrafo();
+        assertTrue(grafo.getConexiones().stream().allMatch(c -> c.getPeso() >= 1 && c.getPeso() <= 4));
+        assertArrayEquals(Djikstra.calcularDistancias(red.aGrafoCSR(), 0),
+                Djikstra.calcularDistancias(grafo, grafo.getUsuario(0)));
+        assertEquals(499, KruskalMST.arbolDeRecubrimientoMinimo(grafo).getConexiones().size());
+    }
+
+    @Test
+    @DisplayName("el JSON generado lo lee DataLoader con los mismos datos")
+    void jsonLegiblePorDataLoader() throws IOException {
+        GeneradorRedSocial generador = new GeneradorRedSocial(9L);
+        GeneradorRedSocial.RedGenerada red = generador.barabasiAlbert(200, 2);
+        List<Publicacion> publicaciones = generador.publicaciones(50);
+        Path archivo = carpeta.resolve("red.json");
+        red.escribirJson(archivo, publicaciones);
+
+        Grafo grafo = new Grafo();
+        DataLoader loader = new DataLoader(grafo);
+        loader.cargarDesdeArchivo(archivo);
+
+        assertEquals(200, loader.getUsuarios().size());
+        assertEquals(red.getCantidadConexiones(), grafo.getConexiones().size());
+        assertEquals(50, loader.getPublicaciones().size());
+        assertEquals(publicaciones.get(7).ponderar(), loader.getPublicaciones().get(7).ponderar());
+        int pesoGenerado = red.aGrafo().getConexiones().stream().mapToInt(Conexion::getPeso).sum();
+        assertEquals(pesoGenerado, grafo.getConexiones().stream().mapToInt(Conexion::getPeso).sum());
+    }
+}